@@ -0,0 +1,71 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.processor.AudioProcessor;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AudioProcessorBenchmark {
+    @Param({"10", "100", "500", "2000"})
+    public int players;
+
+    @Param({"10", "1000", "10000", "50000"})
+    public int zones;
+
+    @Param({"2048"})
+    public double spread;
+
+    private AudioProcessor processor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Player> online = new ArrayList<>();
+        World world = StandIns.world(UUID.randomUUID(), online);
+        online.addAll(StandIns.players(world, players, spread, 1L));
+
+        AudioManager manager = StandIns.manager(StandIns.server(online), 128, 64);
+        processor = manager.getProcessor();
+
+        Random random = new Random(2L);
+        for (int i = 0; i < zones; i++) {
+            Location center = new Location(world,
+                    (random.nextDouble() - 0.5) * spread,
+                    64,
+                    (random.nextDouble() - 0.5) * spread);
+            manager.createSoundZone(center, 8 + random.nextInt(24), Sound.AMBIENT_CAVE,
+                    SoundCategory.AMBIENT, 0.5f, 1.0f, 1 + random.nextInt(100));
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        processor.run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.api.effects.AudioEffect;
+import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.TickClock;
+import com.meekdev.maudio.internal.processor.SoundDispatcher;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchEffectsBenchmark {
+    @Param({"1000"})
+    public int players;
+
+    @Param({"1", "8"})
+    public int effectsPerTick;
+
+    @Param({"targeted", "global"})
+    public String audience;
+
+    private AudioManager manager;
+    private SoundDispatcher dispatcher;
+    private TickClock clock;
+    private List<AudioEffect> effects;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Player> online = new ArrayList<>();
+        World world = StandIns.world(UUID.randomUUID(), online);
+        online.addAll(StandIns.players(world, players, 512, 9L));
+        manager = StandIns.manager(StandIns.server(online), 128, 64);
+        dispatcher = manager.getProcessor().getDispatcher();
+        clock = manager.getProcessor().getClock();
+
+        effects = new ArrayList<>(effectsPerTick);
+        for (int i = 0; i < effectsPerTick; i++) {
+            AudioEffect.Builder builder = new AudioEffect.Builder()
+                    .sound(i % 2 == 0 ? Sound.BLOCK_NOTE_BLOCK_HARP : Sound.ENTITY_GENERIC_EXPLODE)
+                    .category(SoundCategory.MASTER)
+                    .volume(0.8f)
+                    .pitch(1.0f + i * 0.05f);
+            if ("global".equals(audience)) {
+                builder.global();
+            } else {
+                builder.addPlayers(online);
+            }
+            effects.add(builder.build());
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        clock.advance();
+        manager.playEffects(effects);
+        manager.runPendingEffects();
+
+        int pending = dispatcher.getPendingCount();
+        dispatcher.flush();
+        return pending;
+    }
+}
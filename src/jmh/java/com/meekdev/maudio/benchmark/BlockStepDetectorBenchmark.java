@@ -0,0 +1,91 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.api.events.AudioEvent;
+import com.meekdev.maudio.api.events.AudioListener;
+import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.TickClock;
+import com.meekdev.maudio.internal.events.detector.BlockStepDetector;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockStepDetectorBenchmark {
+    @Param({"10", "100", "500", "2000"})
+    public int players;
+
+    @Param({"none", "listener", "table"})
+    public String dispatch;
+
+    private BlockStepDetector detector;
+    private TickClock clock;
+    private PlayerMoveEvent[] moves;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Player> online = new ArrayList<>();
+        World world = StandIns.world(UUID.randomUUID(), online);
+        Server server = StandIns.server(online);
+        AudioManager manager = StandIns.manager(server, 128, 64);
+        detector = new BlockStepDetector(manager, StandIns.plugin(server));
+        clock = manager.getProcessor().getClock();
+        if (dispatch.equals("listener")) {
+            manager.registerEvents(new StepListener());
+        } else if (dispatch.equals("table")) {
+            manager.registerStepHandler(Material.STONE, (player, block) -> Blackhole.consumeCPU(1));
+        }
+
+        moves = new PlayerMoveEvent[players * 2];
+        for (int i = 0; i < players; i++) {
+            Location a = new Location(world, i * 4 + 0.5, 64, 0.5);
+            Location b = new Location(world, i * 4 + 1.5, 64, 0.5);
+            Player player = StandIns.player(new UUID(3L, i), a);
+            online.add(player);
+            moves[i] = new PlayerMoveEvent(player, a, b);
+            moves[players + i] = new PlayerMoveEvent(player, b, a);
+        }
+    }
+
+    @Benchmark
+    public void onPlayerMove() {
+        if (cursor % players == 0) {
+            clock.advance();
+        }
+        detector.onPlayerMove(moves[cursor]);
+        cursor = cursor + 1 == moves.length ? 0 : cursor + 1;
+    }
+
+    public static class StepListener {
+        @AudioListener("block_step")
+        public void onStep(AudioEvent event) {
+            Blackhole.consumeCPU(1);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.api.events.AudioEvent;
+import com.meekdev.maudio.api.events.AudioListener;
+import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.events.EventBus;
+import com.meekdev.maudio.internal.events.PlayerAudioEventImpl;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBusBenchmark {
+    @Param({"1", "8"})
+    public int listeners;
+
+    private EventBus eventBus;
+    private AudioEvent listenedEvent;
+    private AudioEvent unlistenedEvent;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Server server = StandIns.server(List.of());
+        AudioManager manager = StandIns.manager(server, 128, 64);
+        eventBus = new EventBus(manager, StandIns.plugin(server));
+
+        for (int i = 0; i < listeners; i++) {
+            eventBus.registerListeners(new StepListener());
+        }
+
+        World world = StandIns.world(UUID.randomUUID(), List.of());
+        Location location = new Location(world, 0, 64, 0);
+        Player player = StandIns.player(UUID.randomUUID(), location);
+
+        listenedEvent = event("block_step", player, location);
+        unlistenedEvent = event("item_use", player, location);
+    }
+
+    @Benchmark
+    public boolean fireListened() {
+        return eventBus.fireEvent(listenedEvent);
+    }
+
+    @Benchmark
+    public boolean fireUnlistened() {
+        return eventBus.fireEvent(unlistenedEvent);
+    }
+
+    private static AudioEvent event(String name, Player player, Location location) {
+        return new PlayerAudioEventImpl(name, player, false, null, null, SoundCategory.BLOCKS,
+                1.0f, 1.0f, location, 0L, AudioEvent.Priority.NORMAL);
+    }
+
+    public static class StepListener {
+        @AudioListener("block_step")
+        public void onStep(AudioEvent event) {
+            Blackhole.consumeCPU(1);
+        }
+    }
+}
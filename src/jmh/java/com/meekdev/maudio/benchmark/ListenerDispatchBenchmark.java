@@ -0,0 +1,77 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.api.events.AudioEvent;
+import com.meekdev.maudio.api.events.AudioListener;
+import com.meekdev.maudio.internal.events.ListenerInvoker;
+import com.meekdev.maudio.internal.events.PlayerAudioEventImpl;
+import org.bukkit.Location;
+import org.bukkit.SoundCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListenerDispatchBenchmark {
+    private CountingListener listener;
+    private Method method;
+    private ListenerInvoker invoker;
+    private AudioEvent event;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        listener = new CountingListener();
+        method = CountingListener.class.getDeclaredMethod("onStep", AudioEvent.class);
+        method.setAccessible(true);
+        invoker = ListenerInvoker.bind(listener, method, Logger.getLogger("MaudioBenchmark"));
+
+        Location location = new Location(StandIns.world(UUID.randomUUID(), List.of()), 0, 64, 0);
+        event = new PlayerAudioEventImpl("block_step", null, false, null, null, SoundCategory.BLOCKS,
+                1.0f, 1.0f, location, 0L, AudioEvent.Priority.NORMAL);
+    }
+
+    @Benchmark
+    public int reflective() throws Exception {
+        method.invoke(listener, event);
+        return listener.count;
+    }
+
+    @Benchmark
+    public int bound() throws Throwable {
+        invoker.invoke(event);
+        return listener.count;
+    }
+
+    @Benchmark
+    public int direct() {
+        listener.onStep(event);
+        return listener.count;
+    }
+
+    public static class CountingListener {
+        int count;
+
+        @AudioListener("block_step")
+        public void onStep(AudioEvent event) {
+            count++;
+        }
+    }
+}
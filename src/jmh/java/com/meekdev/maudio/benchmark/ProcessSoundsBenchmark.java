@@ -0,0 +1,63 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.processor.AudioProcessor;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessSoundsBenchmark {
+    @Param({"10000"})
+    public int sounds;
+
+    private AudioManager manager;
+    private AudioProcessor processor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Server server = StandIns.server(List.of());
+        World world = StandIns.world(UUID.randomUUID(), List.of());
+        manager = StandIns.manager(server, sounds, sounds);
+        processor = manager.getProcessor();
+
+        for (int i = 0; i < sounds; i++) {
+            Location location = new Location(world, i % 512, 64, i / 512);
+            manager.playLoopingSound(location, Sound.AMBIENT_CAVE, SoundCategory.AMBIENT,
+                    0.5f, 1.0f, Integer.MAX_VALUE);
+        }
+
+        if (manager.getLiveSounds().size() != sounds) {
+            throw new IllegalStateException("Expected " + sounds + " live sounds, got "
+                    + manager.getLiveSounds().size());
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        processor.run();
+    }
+}
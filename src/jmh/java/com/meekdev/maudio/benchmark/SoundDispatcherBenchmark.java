@@ -0,0 +1,82 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.TickClock;
+import com.meekdev.maudio.internal.processor.SoundDispatcher;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoundDispatcherBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int soundsPerTick;
+
+    @Param({"16", "256"})
+    public int distinctPositions;
+
+    private SoundDispatcher dispatcher;
+    private TickClock clock;
+    private Location[] locations;
+    private Player[] players;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Player> online = new ArrayList<>();
+        World world = StandIns.world(UUID.randomUUID(), online);
+        online.addAll(StandIns.players(world, 100, 256, 5L));
+        AudioManager manager = StandIns.manager(StandIns.server(online), 128, 64);
+        dispatcher = manager.getProcessor().getDispatcher();
+        clock = manager.getProcessor().getClock();
+        players = online.toArray(new Player[0]);
+
+        Random random = new Random(6L);
+        locations = new Location[distinctPositions];
+        for (int i = 0; i < distinctPositions; i++) {
+            locations[i] = new Location(world, random.nextInt(256) + 0.5, 64, random.nextInt(256) + 0.5);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        clock.advance();
+        for (int i = 0; i < soundsPerTick; i++) {
+            if ((i & 3) == 0) {
+                dispatcher.submit(players[i % players.length], Sound.BLOCK_NOTE_BLOCK_HARP, null,
+                        SoundCategory.RECORDS, 0.5f, 1.0f);
+            } else {
+                dispatcher.submit(locations[i % locations.length], Sound.ENTITY_GENERIC_EXPLODE, null,
+                        SoundCategory.BLOCKS, 1.0f, 1.0f);
+            }
+        }
+
+        int pending = dispatcher.getPendingCount();
+        dispatcher.flush();
+        return pending;
+    }
+}
@@ -0,0 +1,57 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.internal.SoundPool;
+import com.meekdev.maudio.internal.model.SoundInstanceImpl;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoundPoolBenchmark {
+    @Param({"1", "32"})
+    public int batch;
+
+    private SoundPool pool;
+    private Location location;
+    private SoundInstanceImpl[] held;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = new SoundPool(128, 64);
+        location = new Location(StandIns.world(UUID.randomUUID(), List.of()), 0, 64, 0);
+        held = new SoundInstanceImpl[batch];
+    }
+
+    @Benchmark
+    public void obtainRelease() {
+        for (int i = 0; i < batch; i++) {
+            held[i] = pool.obtain(Sound.AMBIENT_CAVE, null, SoundCategory.AMBIENT,
+                    1.0f, 1.0f, null, location, false, 0);
+        }
+        for (int i = 0; i < batch; i++) {
+            pool.release(held[i]);
+            held[i] = null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.internal.SoundPool;
+import com.meekdev.maudio.internal.model.SoundInstanceImpl;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoundPoolContentionBenchmark {
+    @Param({"64", "1024"})
+    public int capacity;
+
+    private SoundPool pool;
+    private Location location;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = new SoundPool(capacity, capacity);
+        location = new Location(StandIns.world(UUID.randomUUID(), List.of()), 0, 64, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void verifyCounts() {
+        if (pool.getActiveCount() != 0 || pool.getPooledCount() != capacity) {
+            throw new IllegalStateException("Pool leaked: active=" + pool.getActiveCount()
+                    + " pooled=" + pool.getPooledCount());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void obtainRelease1(Blackhole blackhole) {
+        cycle(blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void obtainRelease4(Blackhole blackhole) {
+        cycle(blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void obtainRelease8(Blackhole blackhole) {
+        cycle(blackhole);
+    }
+
+    private void cycle(Blackhole blackhole) {
+        SoundInstanceImpl instance = pool.obtain(Sound.AMBIENT_CAVE, null, SoundCategory.AMBIENT,
+                1.0f, 1.0f, null, location, false, 0);
+        if (instance == null) {
+            blackhole.consume(pool.getActiveCount());
+            return;
+        }
+
+        if (pool.getActiveCount() > capacity) {
+            throw new IllegalStateException("Active count exceeded cap: " + pool.getActiveCount());
+        }
+
+        blackhole.consume(instance);
+        pool.release(instance);
+    }
+}
@@ -0,0 +1,79 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.internal.SpatialManager;
+import com.meekdev.maudio.internal.TickClock;
+import com.meekdev.maudio.internal.model.ZoneInstanceImpl;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpatialManagerBenchmark {
+    @Param({"10", "100", "500", "2000"})
+    public int players;
+
+    @Param({"10", "1000", "10000", "50000"})
+    public int zones;
+
+    @Param({"2048"})
+    public double spread;
+
+    private SpatialManager spatialManager;
+    private TickClock clock;
+    private List<Player> online;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        online = new ArrayList<>();
+        World world = StandIns.world(UUID.randomUUID(), online);
+        online.addAll(StandIns.players(world, players, spread, 1L));
+
+        clock = new TickClock();
+        spatialManager = new SpatialManager(16, 600, clock);
+
+        Random random = new Random(2L);
+        for (int i = 0; i < zones; i++) {
+            Location center = new Location(world,
+                    (random.nextDouble() - 0.5) * spread,
+                    64,
+                    (random.nextDouble() - 0.5) * spread);
+            ZoneInstanceImpl zone = new ZoneInstanceImpl(UUID.randomUUID(), center, 8 + random.nextInt(24),
+                    Sound.AMBIENT_CAVE, null, SoundCategory.AMBIENT, 0.5f, 1.0f, 40, null);
+            spatialManager.addZone(zone);
+        }
+    }
+
+    @Benchmark
+    public void getZonesInRangeForAllPlayers(Blackhole blackhole) {
+        clock.advance();
+        for (int i = 0; i < online.size(); i++) {
+            blackhole.consume(spatialManager.getZonesInRange(online.get(i)));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.meekdev.maudio.benchmark;
+
+import com.meekdev.maudio.internal.AudioManager;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+final class StandIns {
+    private StandIns() {}
+
+    static Plugin plugin(Server server) {
+        Logger logger = Logger.getLogger("MaudioBenchmark");
+        Map<String, Object> values = new HashMap<>();
+        values.put("getServer", server);
+        values.put("getLogger", logger);
+        values.put("isEnabled", true);
+        values.put("getName", "MaudioBenchmark");
+        return stub(Plugin.class, values);
+    }
+
+    static Server server(Collection<? extends Player> onlinePlayers) {
+        BukkitTask task = stub(BukkitTask.class, Map.of());
+        BukkitScheduler scheduler = stub(BukkitScheduler.class, Map.of(
+                "runTaskTimer", task,
+                "runTaskLater", task,
+                "runTask", task
+        ));
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("getOnlinePlayers", onlinePlayers);
+        values.put("getScheduler", scheduler);
+        values.put("getPluginManager", stub(PluginManager.class, Map.of()));
+        values.put("getLogger", Logger.getLogger("MaudioBenchmark"));
+        values.put("isPrimaryThread", true);
+        return stub(Server.class, values);
+    }
+
+    static World world(UUID id, List<Player> players) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getUID", id);
+        values.put("getName", "world-" + id);
+        values.put("getPlayers", players);
+        values.put("isChunkLoaded", true);
+        values.put("getType", Material.STONE);
+        World world = stub(World.class, values);
+        values.put("getBlockAt", block(new Location(world, 0, 63, 0), Material.STONE));
+        return world;
+    }
+
+    static Block block(Location location, Material type) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getType", type);
+        values.put("getLocation", location);
+        values.put("getWorld", location.getWorld());
+        Block block = stub(Block.class, values);
+        values.put("getRelative", block);
+        return block;
+    }
+
+    static AudioManager manager(Server server, int poolSize, int maxActiveSounds) {
+        return new AudioManager(plugin(server), poolSize, maxActiveSounds);
+    }
+
+    static Player player(UUID id, Location location) {
+        return stub(Player.class, Map.of(
+                "getUniqueId", id,
+                "getName", "player-" + id,
+                "getLocation", location,
+                "getWorld", location.getWorld(),
+                "isOnline", true
+        ));
+    }
+
+    static List<Player> players(World world, int count, double spread, long seed) {
+        Random random = new Random(seed);
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Location location = new Location(world,
+                    (random.nextDouble() - 0.5) * spread,
+                    64,
+                    (random.nextDouble() - 0.5) * spread);
+            players.add(player(new UUID(seed, i), location));
+        }
+        return players;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> values) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (values.containsKey(name)) {
+                return values.get(name);
+            }
+
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "StandIn";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return 0d;
+    }
+}
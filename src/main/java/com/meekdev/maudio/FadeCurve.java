@@ -0,0 +1,24 @@
+package com.meekdev.maudio;
+
+public enum FadeCurve {
+    LINEAR {
+        @Override
+        public float apply(float progress) {
+            return progress;
+        }
+    },
+    EXPONENTIAL {
+        @Override
+        public float apply(float progress) {
+            return (float) ((Math.pow(2, 10 * progress) - 1) / 1023.0);
+        }
+    },
+    EQUAL_POWER {
+        @Override
+        public float apply(float progress) {
+            return (float) Math.sin(progress * Math.PI / 2);
+        }
+    };
+
+    public abstract float apply(float progress);
+}
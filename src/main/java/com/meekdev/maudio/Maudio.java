@@ -5,10 +5,13 @@ import com.meekdev.maudio.api.effects.AudioSequence;
 import com.meekdev.maudio.api.events.AudioEvent;
 import com.meekdev.maudio.api.SoundLookup;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
+import org.bukkit.Tag;
 import org.bukkit.entity.Player;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -71,6 +74,18 @@ public interface Maudio {
 
     Optional<ZoneInstance> getZoneInstance(UUID zoneId);
 
+    Optional<SequenceInstance> getSequenceInstance(UUID sequenceId);
+
+    void registerStepSound(Material material, Sound sound, SoundCategory category, float volume, float pitch);
+
+    void registerStepSound(Tag<Material> tag, Sound sound, SoundCategory category, float volume, float pitch);
+
+    void registerStepHandler(Material material, StepHandler handler);
+
+    void registerStepHandler(Tag<Material> tag, StepHandler handler);
+
+    void clearStepSounds(Material material);
+
     void registerEvents(Object listener);
 
     void unregisterEvents(Object listener);
@@ -79,7 +94,9 @@ public interface Maudio {
 
     void playEffect(AudioEffect effect);
 
-    void playSequence(AudioSequence sequence);
+    void playEffects(Collection<AudioEffect> effects);
+
+    SequenceInstance playSequence(AudioSequence sequence);
 
     void dispose();
 }
\ No newline at end of file
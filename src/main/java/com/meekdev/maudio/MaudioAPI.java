@@ -6,11 +6,14 @@ import com.meekdev.maudio.api.effects.AudioSequence;
 import com.meekdev.maudio.api.events.AudioEvent;
 import com.meekdev.maudio.internal.AudioManager;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
+import org.bukkit.Tag;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,7 +21,11 @@ public class MaudioAPI implements Maudio {
     private final AudioManager manager;
 
     public MaudioAPI(JavaPlugin plugin) {
-        this.manager = new AudioManager(plugin);
+        this(plugin, MaudioOptions.defaults());
+    }
+
+    public MaudioAPI(JavaPlugin plugin, MaudioOptions options) {
+        this.manager = new AudioManager(plugin, options);
     }
 
     @Override
@@ -214,6 +221,36 @@ public class MaudioAPI implements Maudio {
         return manager.getZoneInstance(zoneId);
     }
 
+    @Override
+    public Optional<SequenceInstance> getSequenceInstance(UUID sequenceId) {
+        return manager.getSequenceInstance(sequenceId);
+    }
+
+    @Override
+    public void registerStepSound(Material material, Sound sound, SoundCategory category, float volume, float pitch) {
+        manager.registerStepSound(material, sound, category, volume, pitch);
+    }
+
+    @Override
+    public void registerStepSound(Tag<Material> tag, Sound sound, SoundCategory category, float volume, float pitch) {
+        manager.registerStepSound(tag, sound, category, volume, pitch);
+    }
+
+    @Override
+    public void registerStepHandler(Material material, StepHandler handler) {
+        manager.registerStepHandler(material, handler);
+    }
+
+    @Override
+    public void registerStepHandler(Tag<Material> tag, StepHandler handler) {
+        manager.registerStepHandler(tag, handler);
+    }
+
+    @Override
+    public void clearStepSounds(Material material) {
+        manager.clearStepSounds(material);
+    }
+
     @Override
     public void registerEvents(Object listener) {
         manager.registerEvents(listener);
@@ -235,8 +272,13 @@ public class MaudioAPI implements Maudio {
     }
 
     @Override
-    public void playSequence(AudioSequence sequence) {
-        manager.playSequence(sequence);
+    public void playEffects(Collection<AudioEffect> effects) {
+        manager.playEffects(effects);
+    }
+
+    @Override
+    public SequenceInstance playSequence(AudioSequence sequence) {
+        return manager.playSequence(sequence);
     }
 
     @Override
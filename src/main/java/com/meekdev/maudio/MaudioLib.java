@@ -9,12 +9,16 @@ public final class MaudioLib {
     private MaudioLib() {}
 
     public static MaudioAPI init(JavaPlugin plugin) {
+        return init(plugin, MaudioOptions.defaults());
+    }
+
+    public static MaudioAPI init(JavaPlugin plugin, MaudioOptions options) {
         MaudioAPI existing = instance.get();
         if (existing != null) {
             return existing;
         }
 
-        MaudioAPI newInstance = new MaudioAPI(plugin);
+        MaudioAPI newInstance = new MaudioAPI(plugin, options);
         if (instance.compareAndSet(null, newInstance)) {
             return newInstance;
         } else {
@@ -0,0 +1,162 @@
+package com.meekdev.maudio;
+
+public final class MaudioOptions {
+    private final int poolCapacity;
+    private final int maxActiveSounds;
+    private final boolean adaptivePool;
+    private final int maxPoolCapacity;
+    private final int poolShrinkIdleTicks;
+    private final VoiceStealingPolicy voiceStealingPolicy;
+    private final int fadeUpdateTicks;
+    private final FadeCurve fadeCurve;
+    private final double zoneHysteresis;
+    private final int playerSoundBudget;
+    private final int chunkSoundBudget;
+    private final int zoneCellSize;
+
+    private MaudioOptions(Builder builder) {
+        this.poolCapacity = builder.poolCapacity;
+        this.maxActiveSounds = builder.maxActiveSounds;
+        this.adaptivePool = builder.adaptivePool;
+        this.maxPoolCapacity = Math.max(builder.poolCapacity, builder.maxPoolCapacity);
+        this.poolShrinkIdleTicks = builder.poolShrinkIdleTicks;
+        this.voiceStealingPolicy = builder.voiceStealingPolicy;
+        this.fadeUpdateTicks = builder.fadeUpdateTicks;
+        this.fadeCurve = builder.fadeCurve;
+        this.zoneHysteresis = builder.zoneHysteresis;
+        this.playerSoundBudget = builder.playerSoundBudget;
+        this.chunkSoundBudget = builder.chunkSoundBudget;
+        this.zoneCellSize = builder.zoneCellSize;
+    }
+
+    public static MaudioOptions defaults() {
+        return new Builder().build();
+    }
+
+    public int getPoolCapacity() {
+        return poolCapacity;
+    }
+
+    public int getMaxActiveSounds() {
+        return maxActiveSounds;
+    }
+
+    public boolean isAdaptivePool() {
+        return adaptivePool;
+    }
+
+    public int getMaxPoolCapacity() {
+        return maxPoolCapacity;
+    }
+
+    public int getPoolShrinkIdleTicks() {
+        return poolShrinkIdleTicks;
+    }
+
+    public VoiceStealingPolicy getVoiceStealingPolicy() {
+        return voiceStealingPolicy;
+    }
+
+    public int getFadeUpdateTicks() {
+        return fadeUpdateTicks;
+    }
+
+    public FadeCurve getFadeCurve() {
+        return fadeCurve;
+    }
+
+    public double getZoneHysteresis() {
+        return zoneHysteresis;
+    }
+
+    public int getPlayerSoundBudget() {
+        return playerSoundBudget;
+    }
+
+    public int getChunkSoundBudget() {
+        return chunkSoundBudget;
+    }
+
+    public int getZoneCellSize() {
+        return zoneCellSize;
+    }
+
+    public static class Builder {
+        private int poolCapacity = 128;
+        private int maxActiveSounds = 64;
+        private boolean adaptivePool = false;
+        private int maxPoolCapacity = 4096;
+        private int poolShrinkIdleTicks = 6000;
+        private VoiceStealingPolicy voiceStealingPolicy = VoiceStealingPolicy.LOWEST_PRIORITY;
+        private int fadeUpdateTicks = 5;
+        private FadeCurve fadeCurve = FadeCurve.LINEAR;
+        private double zoneHysteresis = 2.0;
+        private int playerSoundBudget = 64;
+        private int chunkSoundBudget = 128;
+        private int zoneCellSize = 16;
+
+        public Builder poolCapacity(int poolCapacity) {
+            this.poolCapacity = Math.max(1, poolCapacity);
+            return this;
+        }
+
+        public Builder maxActiveSounds(int maxActiveSounds) {
+            this.maxActiveSounds = Math.max(0, maxActiveSounds);
+            return this;
+        }
+
+        public Builder adaptivePool(boolean adaptivePool) {
+            this.adaptivePool = adaptivePool;
+            return this;
+        }
+
+        public Builder maxPoolCapacity(int maxPoolCapacity) {
+            this.maxPoolCapacity = Math.max(1, maxPoolCapacity);
+            return this;
+        }
+
+        public Builder poolShrinkIdleTicks(int poolShrinkIdleTicks) {
+            this.poolShrinkIdleTicks = Math.max(1, poolShrinkIdleTicks);
+            return this;
+        }
+
+        public Builder voiceStealing(VoiceStealingPolicy policy) {
+            this.voiceStealingPolicy = policy != null ? policy : VoiceStealingPolicy.NONE;
+            return this;
+        }
+
+        public Builder fadeUpdateTicks(int fadeUpdateTicks) {
+            this.fadeUpdateTicks = Math.max(1, fadeUpdateTicks);
+            return this;
+        }
+
+        public Builder fadeCurve(FadeCurve fadeCurve) {
+            this.fadeCurve = fadeCurve != null ? fadeCurve : FadeCurve.LINEAR;
+            return this;
+        }
+
+        public Builder zoneHysteresis(double zoneHysteresis) {
+            this.zoneHysteresis = Math.max(0, zoneHysteresis);
+            return this;
+        }
+
+        public Builder playerSoundBudget(int playerSoundBudget) {
+            this.playerSoundBudget = Math.max(1, playerSoundBudget);
+            return this;
+        }
+
+        public Builder chunkSoundBudget(int chunkSoundBudget) {
+            this.chunkSoundBudget = Math.max(1, chunkSoundBudget);
+            return this;
+        }
+
+        public Builder zoneCellSize(int zoneCellSize) {
+            this.zoneCellSize = Math.max(1, zoneCellSize);
+            return this;
+        }
+
+        public MaudioOptions build() {
+            return new MaudioOptions(this);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.meekdev.maudio;
+
+import com.meekdev.maudio.api.effects.AudioSequence;
+
+import java.util.UUID;
+
+public interface SequenceInstance {
+    UUID getId();
+
+    AudioSequence getSequence();
+
+    int getPosition();
+
+    int getLength();
+
+    boolean isRunning();
+
+    boolean isPaused();
+
+    boolean isFinished();
+
+    SequenceInstance pause();
+
+    SequenceInstance resume();
+
+    SequenceInstance seek(int position);
+
+    SequenceInstance cancel();
+}
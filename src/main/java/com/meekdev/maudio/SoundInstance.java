@@ -38,6 +38,10 @@ public interface SoundInstance {
 
     SoundInstance setLocation(Location location);
 
+    int getPriority();
+
+    SoundInstance setPriority(int priority);
+
     SoundInstance play();
 
     SoundInstance pause();
@@ -48,6 +52,10 @@ public interface SoundInstance {
 
     SoundInstance fadeOut(float seconds);
 
+    SoundInstance fadeIn(float seconds, FadeCurve curve);
+
+    SoundInstance fadeOut(float seconds, FadeCurve curve);
+
     Optional<Player> getPlayer();
 
     Optional<Location> getLocation();
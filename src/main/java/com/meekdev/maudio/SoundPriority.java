@@ -0,0 +1,36 @@
+package com.meekdev.maudio;
+
+import org.bukkit.SoundCategory;
+
+public final class SoundPriority {
+    public static final int LOWEST = 0;
+    public static final int LOW = 25;
+    public static final int NORMAL = 50;
+    public static final int HIGH = 75;
+    public static final int CRITICAL = 100;
+
+    private SoundPriority() {}
+
+    public static int forCategory(SoundCategory category) {
+        if (category == null) return NORMAL;
+
+        switch (category) {
+            case MUSIC:
+            case MASTER:
+                return CRITICAL;
+            case RECORDS:
+            case VOICE:
+                return HIGH;
+            case PLAYERS:
+            case HOSTILE:
+            case WEATHER:
+                return NORMAL;
+            case NEUTRAL:
+            case BLOCKS:
+                return LOW;
+            case AMBIENT:
+            default:
+                return LOWEST;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.meekdev.maudio;
+
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+
+@FunctionalInterface
+public interface StepHandler {
+    void onStep(Player player, Block block);
+}
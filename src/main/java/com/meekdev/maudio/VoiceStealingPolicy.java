@@ -0,0 +1,8 @@
+package com.meekdev.maudio;
+
+public enum VoiceStealingPolicy {
+    NONE,
+    LOWEST_PRIORITY,
+    QUIETEST,
+    OLDEST
+}
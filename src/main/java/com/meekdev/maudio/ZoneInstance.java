@@ -43,6 +43,14 @@ public interface ZoneInstance {
 
     ZoneInstance deactivate();
 
+    float getCrossfadeSeconds();
+
+    ZoneInstance setCrossfadeSeconds(float seconds);
+
+    double getHysteresis();
+
+    ZoneInstance setHysteresis(double blocks);
+
     Set<Player> getPlayersInZone();
 
     boolean isPlayerInZone(Player player);
@@ -41,6 +41,10 @@ public interface AudioEvent {
 
     Priority getPriority();
 
+    default AudioEvent retain() {
+        return this;
+    }
+
     enum Priority {
         LOW(0),
         NORMAL(1),
@@ -11,4 +11,5 @@ public @interface AudioListener {
     String[] value();
     AudioEvent.Priority priority() default AudioEvent.Priority.NORMAL;
     boolean ignoreCancelled() default false;
+    boolean async() default false;
 }
\ No newline at end of file
@@ -1,63 +1,114 @@
 package com.meekdev.maudio.internal;
 
+import com.meekdev.maudio.FadeCurve;
 import com.meekdev.maudio.Maudio;
+import com.meekdev.maudio.MaudioOptions;
+import com.meekdev.maudio.SequenceInstance;
 import com.meekdev.maudio.SoundInstance;
+import com.meekdev.maudio.SoundPriority;
+import com.meekdev.maudio.StepHandler;
+import com.meekdev.maudio.VoiceStealingPolicy;
 import com.meekdev.maudio.ZoneInstance;
 import com.meekdev.maudio.api.SoundLookup;
 import com.meekdev.maudio.api.effects.AudioEffect;
 import com.meekdev.maudio.api.effects.AudioSequence;
 import com.meekdev.maudio.api.events.AudioEvent;
 import com.meekdev.maudio.internal.events.EventBus;
-import com.meekdev.maudio.internal.events.PlayerAudioEventImpl;
+import com.meekdev.maudio.internal.events.ReusableAudioEvent;
 import com.meekdev.maudio.internal.events.detector.BlockStepDetector;
 import com.meekdev.maudio.internal.events.detector.ItemUseDetector;
+import com.meekdev.maudio.internal.model.SequenceInstanceImpl;
 import com.meekdev.maudio.internal.model.SoundInstanceImpl;
 import com.meekdev.maudio.internal.model.ZoneInstanceImpl;
 import com.meekdev.maudio.internal.processor.AudioProcessor;
+import com.meekdev.maudio.internal.processor.SoundDispatcher;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
-import org.bukkit.block.Block;
+import org.bukkit.Tag;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.ArrayList;
 import java.util.List;
 
 public class AudioManager implements Maudio {
-    private final JavaPlugin plugin;
+    private static final int MAX_MAIN_THREAD_ACTIONS_PER_TICK = 4096;
+    private static final int POOL_WARNING_INTERVAL_TICKS = 600;
+
+    private final Plugin plugin;
     private final AudioProcessor processor;
     private final SoundPool soundPool;
     private final SpatialManager spatialManager;
+    private final ZoneMembership zoneMembership;
     private final EventBus eventBus;
     private final Map<String, Listener> detectors = new HashMap<>();
 
     private final Map<UUID, SoundInstanceImpl> activeSounds = new ConcurrentHashMap<>();
+    private final LiveSoundList liveSounds = new LiveSoundList(64);
+    private final PlayerSoundIndex playerSounds = new PlayerSoundIndex();
+    private final WorldSoundIndex worldSounds = new WorldSoundIndex();
     private final Map<UUID, ZoneInstanceImpl> activeZones = new ConcurrentHashMap<>();
-    private final Map<UUID, Float> playerVolumes = new ConcurrentHashMap<>();
-    private final Map<UUID, Map<UUID, Long>> sequenceTimers = new ConcurrentHashMap<>();
-
-    private float globalVolume = 1.0f;
+    private final PlayerStateTable playerStates = new PlayerStateTable(64);
+    private final StepSoundTable stepSounds = new StepSoundTable();
+    private final ReusableAudioEvent detectorEvent = new ReusableAudioEvent();
+    private final Map<UUID, SequenceInstanceImpl> activeSequences = new ConcurrentHashMap<>();
+    private final Queue<Runnable> mainThreadActions = new ConcurrentLinkedQueue<>();
+    private final Queue<AudioEffect> pendingEffects = new ConcurrentLinkedQueue<>();
+
+    private final VoiceStealingPolicy voiceStealingPolicy;
+    private final FadeCurve defaultFadeCurve;
+    private volatile float globalVolume = 1.0f;
+    private int lastPoolCapacity;
+    private long lastExhaustedCount;
+    private int ticksSincePoolWarning = POOL_WARNING_INTERVAL_TICKS;
+    private EventManager eventManager;
     private BukkitTask processorTask;
     private boolean initialized = false;
 
-    public AudioManager(JavaPlugin plugin) {
+    public AudioManager(Plugin plugin) {
+        this(plugin, MaudioOptions.defaults());
+    }
+
+    public AudioManager(Plugin plugin, int poolSize, int maxActiveSounds) {
+        this(plugin, new MaudioOptions.Builder()
+                .poolCapacity(poolSize)
+                .maxActiveSounds(maxActiveSounds)
+                .build());
+    }
+
+    public AudioManager(Plugin plugin, MaudioOptions options) {
         this.plugin = plugin;
-        this.soundPool = new SoundPool(128, 64);
-        this.spatialManager = new SpatialManager(16, 500);
-        this.processor = new AudioProcessor(this);
+        this.soundPool = new SoundPool(
+                options.getPoolCapacity(),
+                options.getMaxActiveSounds(),
+                options.isAdaptivePool(),
+                options.getMaxPoolCapacity(),
+                options.getPoolShrinkIdleTicks()
+        );
+        this.voiceStealingPolicy = options.getVoiceStealingPolicy();
+        this.lastPoolCapacity = soundPool.getCapacity();
+        this.defaultFadeCurve = options.getFadeCurve();
+        this.processor = new AudioProcessor(this, options);
+        this.spatialManager = new SpatialManager(options.getZoneCellSize(), 600, processor.getClock());
+        this.zoneMembership = new ZoneMembership(this, spatialManager, options.getZoneHysteresis());
         this.eventBus = new EventBus(this, plugin);
         init();
     }
@@ -66,7 +117,11 @@ public class AudioManager implements Maudio {
         if (initialized) return;
 
         initProcessor();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            playerStates.assign(player.getUniqueId());
+        }
         registerDetectors();
+        eventManager = new EventManager(plugin, this);
         initialized = true;
     }
 
@@ -90,6 +145,45 @@ public class AudioManager implements Maudio {
         detectors.put("itemUse", itemDetector);
     }
 
+    @Override
+    public void registerStepSound(Material material, Sound sound, SoundCategory category, float volume, float pitch) {
+        if (material == null || sound == null) return;
+
+        stepSounds.register(material, stepSound(sound, category, volume, pitch));
+    }
+
+    @Override
+    public void registerStepSound(Tag<Material> tag, Sound sound, SoundCategory category, float volume, float pitch) {
+        if (tag == null || sound == null) return;
+
+        stepSounds.register(tag, stepSound(sound, category, volume, pitch));
+    }
+
+    @Override
+    public void registerStepHandler(Material material, StepHandler handler) {
+        if (material == null || handler == null) return;
+
+        stepSounds.register(material, handler);
+    }
+
+    @Override
+    public void registerStepHandler(Tag<Material> tag, StepHandler handler) {
+        if (tag == null || handler == null) return;
+
+        stepSounds.register(tag, handler);
+    }
+
+    @Override
+    public void clearStepSounds(Material material) {
+        if (material == null) return;
+
+        stepSounds.clear(material);
+    }
+
+    private StepHandler stepSound(Sound sound, SoundCategory category, float volume, float pitch) {
+        return (player, block) -> playSound(player.getLocation(), sound, category, volume, pitch);
+    }
+
     public void registerEvents(Object listener) {
         eventBus.registerListeners(listener);
     }
@@ -102,8 +196,16 @@ public class AudioManager implements Maudio {
         return eventBus.fireEvent(event);
     }
 
+    public boolean hasEventListeners(String eventName) {
+        return eventBus.hasListeners(eventName);
+    }
+
     public void playEffect(AudioEffect effect) {
         if (effect == null) return;
+        if (!isMainThread()) {
+            runOnMainThread(() -> playEffect(effect));
+            return;
+        }
 
         Sound sound = effect.getSound();
         String customSound = effect.getCustomSound();
@@ -156,100 +258,142 @@ public class AudioManager implements Maudio {
                 }
             }
         } else {
+            pendingEffects.add(effect);
+        }
+    }
+
+    @Override
+    public void playEffects(Collection<AudioEffect> effects) {
+        if (effects == null) return;
+
+        for (AudioEffect effect : effects) {
+            if (effect == null) continue;
+
+            if (effect.getFadeIn() > 0 || effect.isLooping()) {
+                playEffect(effect);
+            } else {
+                pendingEffects.add(effect);
+            }
+        }
+    }
+
+    public void runPendingEffects() {
+        if (pendingEffects.isEmpty()) return;
+
+        SoundDispatcher dispatcher = processor.getDispatcher();
+        Map<UUID, List<AudioEffect>> targeted = new HashMap<>();
+        List<AudioEffect> global = new ArrayList<>();
+
+        AudioEffect effect;
+        while ((effect = pendingEffects.poll()) != null) {
+            if (effect.getSound() == null && (effect.getCustomSound() == null || effect.getCustomSound().isEmpty())) {
+                continue;
+            }
+
+            Set<UUID> targetPlayerIds = effect.getTargetPlayerIds();
             if (!targetPlayerIds.isEmpty()) {
                 for (UUID playerId : targetPlayerIds) {
-                    Player player = plugin.getServer().getPlayer(playerId);
-                    if (player == null || !player.isOnline()) continue;
-
-                    if (sound != null) {
-                        playSoundToPlayer(player, sound, category, volume, pitch);
-                    } else if (customSound != null) {
-                        playSoundToPlayer(player, customSound, category, volume, pitch);
-                    }
+                    targeted.computeIfAbsent(playerId, id -> new ArrayList<>(2)).add(effect);
                 }
-            } else if (global) {
-                for (Player player : plugin.getServer().getOnlinePlayers()) {
-                    if (sound != null) {
-                        playSoundToPlayer(player, sound, category, volume, pitch);
-                    } else if (customSound != null) {
-                        playSoundToPlayer(player, customSound, category, volume, pitch);
-                    }
-                }
-            } else if (location != null) {
-                if (sound != null) {
-                    playSound(location, sound, category, volume, pitch);
-                } else if (customSound != null) {
-                    playSound(location, customSound, category, volume, pitch);
+            } else if (effect.isGlobal()) {
+                global.add(effect);
+            } else {
+                Location location = effect.getLocation();
+                if (location != null && location.getWorld() != null) {
+                    dispatcher.submit(location, effect.getSound(), effect.getCustomSound(), effect.getCategory(),
+                            calculateVolume(effect.getVolume()), effect.getPitch());
                 }
             }
         }
-    }
 
-    public void playSequence(AudioSequence sequence) {
-        if (sequence == null) return;
-
-        List<AudioEffect> effects = sequence.getEffects();
-        if (effects.isEmpty()) return;
+        Collection<? extends Player> online = plugin.getServer().getOnlinePlayers();
+        if (global.isEmpty() && targeted.size() * 4 < online.size()) {
+            for (Map.Entry<UUID, List<AudioEffect>> entry : targeted.entrySet()) {
+                Player player = plugin.getServer().getPlayer(entry.getKey());
+                if (player != null && player.isOnline()) {
+                    submitEffects(dispatcher, player, entry.getValue(), List.of());
+                }
+            }
+            return;
+        }
 
-        if (sequence.isConcurrent()) {
-            for (AudioEffect effect : effects) {
-                playEffect(effect);
+        for (Player player : online) {
+            List<AudioEffect> own = targeted.isEmpty() ? null : targeted.get(player.getUniqueId());
+            if (own != null || !global.isEmpty()) {
+                submitEffects(dispatcher, player, own != null ? own : List.of(), global);
             }
-        } else {
-            playSequentialEffects(sequence, effects, 0);
         }
     }
 
-    private void playSequentialEffects(AudioSequence sequence, List<AudioEffect> effects, int index) {
-        if (index >= effects.size()) return;
+    private void submitEffects(SoundDispatcher dispatcher, Player player, List<AudioEffect> own, List<AudioEffect> global) {
+        float playerVolume = calculatePlayerVolume(player, 1.0f);
 
-        AudioEffect effect = effects.get(index);
-        playEffect(effect);
+        for (int i = 0; i < own.size(); i++) {
+            AudioEffect effect = own.get(i);
+            dispatcher.submit(player, effect.getSound(), effect.getCustomSound(), effect.getCategory(),
+                    effect.getVolume() * playerVolume, effect.getPitch());
+        }
+        for (int i = 0; i < global.size(); i++) {
+            AudioEffect effect = global.get(i);
+            dispatcher.submit(player, effect.getSound(), effect.getCustomSound(), effect.getCategory(),
+                    effect.getVolume() * playerVolume, effect.getPitch());
+        }
+    }
 
-        float delay = calculateEffectDuration(effect);
+    public SequenceInstance playSequence(AudioSequence sequence) {
+        if (sequence == null) return null;
 
-        plugin.getServer().getScheduler().runTaskLater(
-                plugin,
-                () -> playSequentialEffects(sequence, effects, index + 1),
-                Math.max(1, (long)(delay * 20))
-        );
-    }
+        SequenceInstanceImpl instance = new SequenceInstanceImpl(UUID.randomUUID(), sequence, this);
+        if (sequence.getEffects().isEmpty()) {
+            instance.complete();
+            return instance;
+        }
 
-    private float calculateEffectDuration(AudioEffect effect) {
-        float baseDuration = 0.0f;
+        if (sequence.isConcurrent()) {
+            if (!isMainThread()) {
+                runOnMainThread(() -> playConcurrentEffects(sequence));
+            } else {
+                playConcurrentEffects(sequence);
+            }
+            instance.complete();
+            return instance;
+        }
 
-        if (effect.getDuration() > 0) {
-            baseDuration = effect.getDuration();
+        activeSequences.put(instance.getId(), instance);
+        if (!isMainThread()) {
+            runOnMainThread(instance::step);
         } else {
-            baseDuration = 1.0f;
+            instance.step();
         }
+        return instance;
+    }
 
-        return baseDuration + effect.getFadeIn() + effect.getFadeOut();
+    private void playConcurrentEffects(AudioSequence sequence) {
+        for (AudioEffect effect : sequence.getEffects()) {
+            playEffect(effect);
+        }
     }
 
-    public AudioEffect createBlockStepEffect(Player player, Block block) {
-        AudioEvent event = new PlayerAudioEventImpl(
-                "block_step",
-                player,
-                false,
-                null,
-                null,
-                SoundCategory.BLOCKS,
-                1.0f,
-                1.0f,
-                block.getLocation(),
-                System.currentTimeMillis(),
-                AudioEvent.Priority.NORMAL
-        );
+    public void removeSequenceInstance(SequenceInstanceImpl instance) {
+        activeSequences.remove(instance.getId(), instance);
+    }
 
-        if (triggerEvent(event)) {
-            return null;
+    public void fireBlockStepEvent(Player player, World world, int x, int y, int z) {
+        if (!eventBus.hasListeners("block_step")) {
+            return;
         }
 
-        return null;
+        ReusableAudioEvent event = obtainDetectorEvent()
+                .begin("block_step", player, SoundCategory.BLOCKS, AudioEvent.Priority.NORMAL)
+                .at(world, x, y, z);
+        try {
+            triggerEvent(event);
+        } finally {
+            event.end();
+        }
     }
 
-    public AudioEffect createItemUseEffect(Player player, ItemStack item, Action action) {
+    public void fireItemUseEvent(Player player, Action action) {
         String eventName = "item_use";
         if (action == Action.LEFT_CLICK_AIR || action == Action.LEFT_CLICK_BLOCK) {
             eventName = "item_left_click";
@@ -257,60 +401,82 @@ public class AudioManager implements Maudio {
             eventName = "item_right_click";
         }
 
-        AudioEvent event = new PlayerAudioEventImpl(
-                eventName,
-                player,
-                false,
-                null,
-                null,
-                SoundCategory.PLAYERS,
-                1.0f,
-                1.0f,
-                player.getLocation(),
-                System.currentTimeMillis(),
-                AudioEvent.Priority.NORMAL
-        );
+        if (!eventBus.hasListeners(eventName)) {
+            return;
+        }
 
-        if (triggerEvent(event)) {
-            return null;
+        ReusableAudioEvent event = obtainDetectorEvent()
+                .begin(eventName, player, SoundCategory.PLAYERS, AudioEvent.Priority.NORMAL);
+        try {
+            triggerEvent(event);
+        } finally {
+            event.end();
         }
+    }
 
-        return null;
+    private ReusableAudioEvent obtainDetectorEvent() {
+        return isMainThread() && !detectorEvent.isInUse() ? detectorEvent : new ReusableAudioEvent();
     }
 
     @Override
     public void playSound(Location location, Sound sound, SoundCategory category, float volume, float pitch) {
         if (location == null || location.getWorld() == null) return;
-        location.getWorld().playSound(location, sound, category, calculateVolume(volume), pitch);
+        if (!isMainThread()) {
+            runOnMainThread(() -> playSound(location, sound, category, volume, pitch));
+            return;
+        }
+        processor.getDispatcher().submit(location, sound, null, category, calculateVolume(volume), pitch);
     }
 
     @Override
     public void playSound(Location location, String customSound, SoundCategory category, float volume, float pitch) {
         if (location == null || location.getWorld() == null) return;
-        location.getWorld().playSound(location, customSound, category, calculateVolume(volume), pitch);
+        if (!isMainThread()) {
+            runOnMainThread(() -> playSound(location, customSound, category, volume, pitch));
+            return;
+        }
+        processor.getDispatcher().submit(location, null, customSound, category, calculateVolume(volume), pitch);
     }
 
     @Override
     public void playSoundToPlayer(Player player, Sound sound, SoundCategory category, float volume, float pitch) {
         if (player == null || !player.isOnline()) return;
-        player.playSound(player.getLocation(), sound, category, calculatePlayerVolume(player, volume), pitch);
+        if (!isMainThread()) {
+            runOnMainThread(() -> playSoundToPlayer(player, sound, category, volume, pitch));
+            return;
+        }
+        processor.getDispatcher().submit(player, sound, null, category, calculatePlayerVolume(player, volume), pitch);
     }
 
     @Override
     public void playSoundToPlayer(Player player, String customSound, SoundCategory category, float volume, float pitch) {
         if (player == null || !player.isOnline()) return;
-        player.playSound(player.getLocation(), customSound, category, calculatePlayerVolume(player, volume), pitch);
+        if (!isMainThread()) {
+            runOnMainThread(() -> playSoundToPlayer(player, customSound, category, volume, pitch));
+            return;
+        }
+        processor.getDispatcher().submit(player, null, customSound, category, calculatePlayerVolume(player, volume), pitch);
     }
 
     @Override
     public void stopSound(Player player, Sound sound, SoundCategory category) {
         if (player == null || !player.isOnline()) return;
+        if (!isMainThread()) {
+            runOnMainThread(() -> stopSound(player, sound, category));
+            return;
+        }
+        processor.getDispatcher().discard(player, sound, null, category);
         player.stopSound(sound, category);
     }
 
     @Override
     public void stopSound(Player player, String customSound, SoundCategory category) {
         if (player == null || !player.isOnline()) return;
+        if (!isMainThread()) {
+            runOnMainThread(() -> stopSound(player, customSound, category));
+            return;
+        }
+        processor.getDispatcher().discard(player, null, customSound, category);
         player.stopSound(customSound, category);
     }
 
@@ -359,21 +525,15 @@ public class AudioManager implements Maudio {
             return null;
         }
 
-        stopPlayerMusicSounds(player);
+        if (isMainThread()) {
+            stopPlayerMusicSounds(player);
+        }
 
-        SoundInstanceImpl instance = soundPool.obtain(music, null, SoundCategory.MUSIC,
+        SoundInstanceImpl instance = obtainVoice(music, null, SoundCategory.MUSIC,
                 volume, pitch, player, null, false, 0);
         if (instance == null) return null;
 
-        activeSounds.put(instance.getId(), instance);
-
-        if (fadeInSeconds > 0) {
-            instance.fadeIn(fadeInSeconds);
-        } else {
-            playSoundToPlayer(player, music, SoundCategory.MUSIC, volume, pitch);
-            instance.setState(SoundInstanceImpl.State.PLAYING);
-        }
-
+        onMainThread(() -> startMusic(instance, fadeInSeconds));
         return instance;
     }
 
@@ -383,38 +543,57 @@ public class AudioManager implements Maudio {
             return null;
         }
 
-        stopPlayerMusicSounds(player);
+        if (isMainThread()) {
+            stopPlayerMusicSounds(player);
+        }
 
-        SoundInstanceImpl instance = soundPool.obtain(null, customMusic, SoundCategory.MUSIC,
+        SoundInstanceImpl instance = obtainVoice(null, customMusic, SoundCategory.MUSIC,
                 volume, pitch, player, null, false, 0);
         if (instance == null) return null;
 
-        activeSounds.put(instance.getId(), instance);
+        onMainThread(() -> startMusic(instance, fadeInSeconds));
+        return instance;
+    }
+
+    private void startMusic(SoundInstanceImpl instance, float fadeInSeconds) {
+        Player player = instance.getPlayerOrNull();
+        if (instance.getState() == SoundInstanceImpl.State.STOPPED || player == null || !player.isOnline()) {
+            soundPool.release(instance);
+            return;
+        }
+
+        stopPlayerMusicSounds(player);
+        trackSound(instance);
 
         if (fadeInSeconds > 0) {
             instance.fadeIn(fadeInSeconds);
-        } else {
-            playSoundToPlayer(player, customMusic, SoundCategory.MUSIC, volume, pitch);
-            instance.setState(SoundInstanceImpl.State.PLAYING);
+            return;
         }
 
-        return instance;
+        float volume = calculatePlayerVolume(player, instance.getVolume());
+        if (instance.getSound() != null) {
+            player.playSound(player.getLocation(), instance.getSound(), SoundCategory.MUSIC, volume, instance.getPitch());
+        } else if (instance.getCustomSoundOrNull() != null) {
+            player.playSound(player.getLocation(), instance.getCustomSoundOrNull(), SoundCategory.MUSIC, volume, instance.getPitch());
+        }
+        instance.setState(SoundInstanceImpl.State.PLAYING);
     }
 
     @Override
     public void stopMusic(Player player, float fadeOutSeconds) {
         if (player == null) return;
+        if (!isMainThread()) {
+            runOnMainThread(() -> stopMusic(player, fadeOutSeconds));
+            return;
+        }
 
-        getSoundsByPlayer(player)
-                .stream()
-                .filter(sound -> sound.getCategory() == SoundCategory.MUSIC)
-                .forEach(sound -> {
-                    if (fadeOutSeconds > 0) {
-                        sound.fadeOut(fadeOutSeconds);
-                    } else {
-                        sound.stop();
-                    }
-                });
+        for (SoundInstanceImpl sound : getSoundsByPlayer(player, SoundCategory.MUSIC)) {
+            if (fadeOutSeconds > 0) {
+                sound.fadeOut(fadeOutSeconds);
+            } else {
+                sound.stop();
+            }
+        }
     }
 
     @Override
@@ -423,13 +602,11 @@ public class AudioManager implements Maudio {
             return null;
         }
 
-        SoundInstanceImpl instance = soundPool.obtain(sound, null, category,
+        SoundInstanceImpl instance = obtainVoice(sound, null, category,
                 volume, pitch, null, location, true, intervalTicks);
         if (instance == null) return null;
 
-        activeSounds.put(instance.getId(), instance);
-        instance.play();
-
+        onMainThread(() -> startLoop(instance));
         return instance;
     }
 
@@ -439,18 +616,32 @@ public class AudioManager implements Maudio {
             return null;
         }
 
-        SoundInstanceImpl instance = soundPool.obtain(sound, null, category,
+        SoundInstanceImpl instance = obtainVoice(sound, null, category,
                 volume, pitch, player, null, true, intervalTicks);
         if (instance == null) return null;
 
-        activeSounds.put(instance.getId(), instance);
-        instance.play();
-
+        onMainThread(() -> startLoop(instance));
         return instance;
     }
 
+    private void startLoop(SoundInstanceImpl instance) {
+        Player player = instance.getPlayerOrNull();
+        if (instance.getState() == SoundInstanceImpl.State.STOPPED || (player != null && !player.isOnline())) {
+            soundPool.release(instance);
+            return;
+        }
+
+        trackSound(instance);
+        instance.play();
+    }
+
     @Override
     public void stopLoopingSound(UUID soundId) {
+        if (!isMainThread()) {
+            runOnMainThread(() -> stopLoopingSound(soundId));
+            return;
+        }
+
         Optional.ofNullable(activeSounds.get(soundId)).ifPresent(SoundInstanceImpl::stop);
     }
 
@@ -473,10 +664,7 @@ public class AudioManager implements Maudio {
                 this
         );
 
-        activeZones.put(zone.getId(), zone);
-        spatialManager.addZone(zone);
-        zone.activate();
-
+        onMainThread(() -> trackZone(zone));
         return zone;
     }
 
@@ -499,49 +687,65 @@ public class AudioManager implements Maudio {
                 this
         );
 
-        activeZones.put(zone.getId(), zone);
-        spatialManager.addZone(zone);
-        zone.activate();
-
+        onMainThread(() -> trackZone(zone));
         return zone;
     }
 
     @Override
     public void removeSoundZone(UUID zoneId) {
+        if (!isMainThread()) {
+            runOnMainThread(() -> removeSoundZone(zoneId));
+            return;
+        }
+
         ZoneInstanceImpl zone = activeZones.get(zoneId);
         if (zone != null) {
             zone.deactivate();
             spatialManager.removeZone(zone);
             activeZones.remove(zoneId);
+            releaseZone(zone);
         }
     }
 
     @Override
     public void stopAllSounds(Player player) {
         if (player == null || !player.isOnline()) return;
+        if (!isMainThread()) {
+            runOnMainThread(() -> stopAllSounds(player));
+            return;
+        }
 
         for (SoundCategory category : SoundCategory.values()) {
             player.stopSound(String.valueOf(category));
         }
 
-        getSoundsByPlayer(player).forEach(sound -> {
+        for (SoundInstanceImpl sound : getSoundsByPlayer(player)) {
             sound.stop();
-            soundPool.release(sound);
-        });
+            removeSoundInstance(sound);
+        }
     }
 
     @Override
     public void stopAllSounds() {
+        if (!isMainThread()) {
+            runOnMainThread(this::stopAllSounds);
+            return;
+        }
+
         for (Player player : plugin.getServer().getOnlinePlayers()) {
             stopAllSounds(player);
         }
 
-        activeSounds.values().forEach(sound -> {
+        for (int i = liveSounds.size() - 1; i >= 0; i--) {
+            SoundInstanceImpl sound = liveSounds.get(i);
             sound.stop();
-            soundPool.release(sound);
-        });
+            removeSoundInstance(sound);
+        }
 
         activeSounds.clear();
+        liveSounds.clear();
+        playerSounds.clear();
+        worldSounds.clear();
     }
 
     @Override
@@ -557,13 +761,24 @@ public class AudioManager implements Maudio {
     @Override
     public void setPlayerVolume(Player player, float volume) {
         if (player == null) return;
-        playerVolumes.put(player.getUniqueId(), Math.max(0, Math.min(1, volume)));
+        if (!isMainThread()) {
+            runOnMainThread(() -> setPlayerVolume(player, volume));
+            return;
+        }
+
+        int slot = playerStates.find(player.getUniqueId());
+        if (slot < 0) {
+            if (!player.isOnline()) return;
+            slot = playerStates.assign(player.getUniqueId());
+        }
+        playerStates.setVolume(slot, Math.max(0, Math.min(1, volume)));
     }
 
     @Override
     public float getPlayerVolume(Player player) {
         if (player == null) return 0;
-        return playerVolumes.getOrDefault(player.getUniqueId(), 1.0f);
+        int slot = playerStates.find(player.getUniqueId());
+        return slot >= 0 ? playerStates.getVolume(slot) : 1.0f;
     }
 
     @Override
@@ -576,14 +791,35 @@ public class AudioManager implements Maudio {
         return Optional.ofNullable(activeZones.get(zoneId));
     }
 
+    @Override
+    public Optional<SequenceInstance> getSequenceInstance(UUID sequenceId) {
+        return Optional.ofNullable(activeSequences.get(sequenceId));
+    }
+
     @Override
     public void dispose() {
+        plugin.getLogger().info("Sound pool high-water mark: " + soundPool.getHighWaterMark()
+                + " of " + soundPool.getCapacity() + " (" + soundPool.getExhaustedCount() + " dropped)");
         stopAllSounds();
         activeZones.values().forEach(ZoneInstanceImpl::deactivate);
         activeSounds.clear();
+        liveSounds.clear();
+        playerSounds.clear();
+        worldSounds.clear();
         activeZones.clear();
         spatialManager.clear();
-
+        zoneMembership.clear();
+        activeSequences.clear();
+        playerStates.clear();
+        stepSounds.clear();
+        processor.clearSchedules();
+        eventBus.shutdown();
+        mainThreadActions.clear();
+        pendingEffects.clear();
+
+        if (eventManager != null) {
+            eventManager.unregister();
+        }
         HandlerList.unregisterAll(plugin);
 
         if (processorTask != null && !processorTask.isCancelled()) {
@@ -592,13 +828,63 @@ public class AudioManager implements Maudio {
     }
 
     void stopPlayerMusicSounds(Player player) {
-        getSoundsByPlayer(player)
-                .stream()
-                .filter(sound -> sound.getCategory() == SoundCategory.MUSIC)
-                .forEach(sound -> {
-                    sound.stop();
-                    soundPool.release(sound);
-                });
+        for (SoundInstanceImpl sound : getSoundsByPlayer(player, SoundCategory.MUSIC)) {
+            sound.stop();
+            removeSoundInstance(sound);
+        }
+    }
+
+    public void maintainSoundPool(int elapsedTicks) {
+        soundPool.maintain(elapsedTicks);
+
+        int capacity = soundPool.getCapacity();
+        if (capacity != lastPoolCapacity) {
+            plugin.getLogger().info("Sound pool resized from " + lastPoolCapacity + " to " + capacity
+                    + " (high-water mark " + soundPool.getHighWaterMark() + ")");
+            lastPoolCapacity = capacity;
+        }
+
+        ticksSincePoolWarning += elapsedTicks;
+        long exhausted = soundPool.getExhaustedCount();
+        if (exhausted != lastExhaustedCount && ticksSincePoolWarning >= POOL_WARNING_INTERVAL_TICKS) {
+            plugin.getLogger().warning("Sound pool exhausted " + (exhausted - lastExhaustedCount)
+                    + " time(s), sounds were dropped: active limit " + soundPool.getMaxActiveSounds()
+                    + ", capacity " + capacity + ", high-water mark " + soundPool.getHighWaterMark()
+                    + ". Raise maxActiveSounds or enable adaptivePool in MaudioOptions.");
+            lastExhaustedCount = exhausted;
+            ticksSincePoolWarning = 0;
+        }
+    }
+
+    public boolean isMainThread() {
+        return plugin.getServer().isPrimaryThread();
+    }
+
+    public void runOnMainThread(Runnable action) {
+        if (action != null) {
+            mainThreadActions.add(action);
+        }
+    }
+
+    private void onMainThread(Runnable action) {
+        if (isMainThread()) {
+            action.run();
+        } else {
+            runOnMainThread(action);
+        }
+    }
+
+    public void runMainThreadActions() {
+        Runnable action;
+        int budget = MAX_MAIN_THREAD_ACTIONS_PER_TICK;
+
+        while (budget-- > 0 && (action = mainThreadActions.poll()) != null) {
+            try {
+                action.run();
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Error running deferred audio action", e);
+            }
+        }
     }
 
     public float calculateVolume(float baseVolume) {
@@ -607,7 +893,8 @@ public class AudioManager implements Maudio {
 
     public float calculatePlayerVolume(Player player, float baseVolume) {
         if (player == null) return 0;
-        return baseVolume * globalVolume * playerVolumes.getOrDefault(player.getUniqueId(), 1.0f);
+        int slot = playerStates.find(player.getUniqueId());
+        return baseVolume * globalVolume * (slot >= 0 ? playerStates.getVolume(slot) : 1.0f);
     }
 
     public Set<SoundInstanceImpl> getAllSounds() {
@@ -618,21 +905,199 @@ public class AudioManager implements Maudio {
         return Set.copyOf(activeZones.values());
     }
 
-    public JavaPlugin getPlugin() {
+    public StepSoundTable getStepSounds() {
+        return stepSounds;
+    }
+
+    public PlayerStateTable getPlayerStates() {
+        return playerStates;
+    }
+
+    public LiveSoundList getLiveSounds() {
+        return liveSounds;
+    }
+
+    public Collection<ZoneInstanceImpl> getActiveZones() {
+        return activeZones.values();
+    }
+
+    public Plugin getPlugin() {
         return plugin;
     }
 
     public void removeSoundInstance(UUID soundId) {
-        SoundInstanceImpl instance = activeSounds.remove(soundId);
+        SoundInstanceImpl instance = activeSounds.get(soundId);
         if (instance != null) {
+            removeSoundInstance(instance);
+        }
+    }
+
+    public void removeSoundInstance(SoundInstanceImpl instance) {
+        if (untrackSound(instance)) {
             soundPool.release(instance);
         }
     }
 
-    Set<SoundInstanceImpl> getSoundsByPlayer(Player player) {
-        return activeSounds.values().stream()
-                .filter(sound -> sound.getPlayer().isPresent() && sound.getPlayer().get().equals(player))
-                .collect(java.util.stream.Collectors.toSet());
+    private boolean untrackSound(SoundInstanceImpl instance) {
+        UUID soundId = instance.getId();
+        if (soundId == null || !activeSounds.remove(soundId, instance)) {
+            return false;
+        }
+
+        liveSounds.remove(instance);
+        processor.cancelLoop(instance);
+        playerSounds.remove(instance);
+        worldSounds.remove(instance);
+        return true;
+    }
+
+    private SoundInstanceImpl obtainVoice(Sound sound, String customSound, SoundCategory category,
+                                          float volume, float pitch, Player player, Location location,
+                                          boolean looping, int intervalTicks) {
+        SoundInstanceImpl instance = soundPool.obtain(sound, customSound, category,
+                volume, pitch, player, location, looping, intervalTicks);
+
+        if (instance == null && isMainThread() && stealVoice(SoundPriority.forCategory(category))) {
+            instance = soundPool.obtain(sound, customSound, category,
+                    volume, pitch, player, location, looping, intervalTicks);
+        }
+
+        if (instance != null) {
+            instance.setDefaultFadeCurve(defaultFadeCurve);
+        }
+        return instance;
+    }
+
+    private boolean stealVoice(int priority) {
+        if (voiceStealingPolicy == VoiceStealingPolicy.NONE) return false;
+
+        SoundInstanceImpl victim = null;
+        for (int i = 0; i < liveSounds.size(); i++) {
+            SoundInstanceImpl candidate = liveSounds.get(i);
+            if (candidate.getPriority() >= priority) continue;
+
+            if (victim == null || isBetterVictim(candidate, victim)) {
+                victim = candidate;
+            }
+        }
+
+        if (victim == null) return false;
+
+        victim.stop();
+        if (untrackSound(victim)) {
+            soundPool.retire(victim);
+        }
+        return true;
+    }
+
+    private boolean isBetterVictim(SoundInstanceImpl candidate, SoundInstanceImpl current) {
+        switch (voiceStealingPolicy) {
+            case QUIETEST:
+                if (candidate.getVolume() != current.getVolume()) {
+                    return candidate.getVolume() < current.getVolume();
+                }
+                return candidate.getPriority() < current.getPriority();
+            case OLDEST:
+                if (candidate.getSequence() != current.getSequence()) {
+                    return candidate.getSequence() < current.getSequence();
+                }
+                return candidate.getPriority() < current.getPriority();
+            case LOWEST_PRIORITY:
+            default:
+                if (candidate.getPriority() != current.getPriority()) {
+                    return candidate.getPriority() < current.getPriority();
+                }
+                return candidate.getSequence() < current.getSequence();
+        }
+    }
+
+    private void trackSound(SoundInstanceImpl instance) {
+        activeSounds.put(instance.getId(), instance);
+        liveSounds.add(instance);
+        playerSounds.add(instance);
+        worldSounds.add(instance);
+        if (instance.isLooping()) {
+            processor.scheduleLoop(instance);
+        }
+    }
+
+    private void trackZone(ZoneInstanceImpl zone) {
+        activeZones.put(zone.getId(), zone);
+        spatialManager.addZone(zone);
+        zone.activate();
+    }
+
+    public void refreshZone(ZoneInstanceImpl zone) {
+        if (!isMainThread()) {
+            runOnMainThread(() -> refreshZone(zone));
+            return;
+        }
+
+        if (activeZones.get(zone.getId()) != zone) return;
+
+        zone.setLoadedChunks(spatialManager.countLoadedChunks(zone));
+        if (zone.isAwake()) {
+            zoneMembership.refreshZone(zone);
+        } else {
+            zoneMembership.removeZone(zone);
+        }
+        processor.updateZoneSchedule(zone);
+    }
+
+    public void handleChunkLoad(UUID worldId, int chunkX, int chunkZ) {
+        for (ZoneInstanceImpl zone : spatialManager.loadChunk(worldId, chunkX, chunkZ)) {
+            zoneMembership.refreshZone(zone);
+            processor.updateZoneSchedule(zone);
+        }
+    }
+
+    public void handleChunkUnload(UUID worldId, int chunkX, int chunkZ) {
+        for (ZoneInstanceImpl zone : spatialManager.unloadChunk(worldId, chunkX, chunkZ)) {
+            zoneMembership.removeZone(zone);
+            processor.updateZoneSchedule(zone);
+        }
+    }
+
+    public void updateZoneMembership(Player player, Location location) {
+        if (player == null || location == null) return;
+
+        zoneMembership.update(player, location);
+    }
+
+    SoundInstanceImpl startZoneAmbience(Player player, ZoneInstanceImpl zone) {
+        if (!player.isOnline()) return null;
+
+        SoundInstanceImpl instance = obtainVoice(zone.getSound(), zone.getCustomSound().orElse(null),
+                zone.getCategory(), zone.getVolume(), zone.getPitch(), player, null, true, zone.getIntervalTicks());
+        if (instance == null) return null;
+
+        trackSound(instance);
+        instance.fadeIn(zone.getCrossfadeSeconds());
+
+        return instance;
+    }
+
+    void stopZoneAmbience(UUID soundId, float fadeOutSeconds) {
+        SoundInstanceImpl instance = activeSounds.get(soundId);
+        if (instance == null || instance.getState() == SoundInstanceImpl.State.STOPPED) return;
+
+        if (fadeOutSeconds > 0) {
+            instance.fadeOut(fadeOutSeconds);
+        } else {
+            instance.stop();
+        }
+    }
+
+    public void updateWorldIndex(SoundInstanceImpl instance) {
+        worldSounds.update(instance);
+    }
+
+    List<SoundInstanceImpl> getSoundsByPlayer(Player player) {
+        return playerSounds.get(player.getUniqueId());
+    }
+
+    List<SoundInstanceImpl> getSoundsByPlayer(Player player, SoundCategory category) {
+        return playerSounds.get(player.getUniqueId(), category);
     }
 
     Set<SoundInstanceImpl> getSoundsByPredicate(Predicate<SoundInstanceImpl> predicate) {
@@ -641,32 +1106,74 @@ public class AudioManager implements Maudio {
                 .collect(java.util.stream.Collectors.toSet());
     }
 
+    public void handlePlayerJoin(Player player) {
+        if (player == null) return;
+
+        playerStates.assign(player.getUniqueId());
+        zoneMembership.update(player, player.getLocation());
+    }
+
     public void handlePlayerQuit(Player player) {
         if (player == null) return;
 
+        zoneMembership.removePlayer(player);
         stopAllSounds(player);
-        playerVolumes.remove(player.getUniqueId());
+        playerStates.free(player.getUniqueId());
         spatialManager.clearPlayerCache(player.getUniqueId());
     }
 
     public void handleWorldChange(Player player, String fromWorld, String toWorld) {
         if (player == null || !player.isOnline()) return;
 
-        getSoundsByPlayer(player)
-                .stream()
-                .filter(SoundInstanceImpl::isWorldSpecific)
-                .forEach(sound -> {
-                    sound.stop();
-                    soundPool.release(sound);
-                    removeSoundInstance(sound.getId());
-                });
+        for (SoundInstanceImpl sound : getSoundsByPlayer(player)) {
+            if (sound.isWorldSpecific()) {
+                sound.stop();
+                removeSoundInstance(sound);
+            }
+        }
+    }
+
+    private void releaseZone(ZoneInstanceImpl zone) {
+        if (isMainThread()) {
+            processor.cancelZone(zone);
+            zoneMembership.removeZone(zone);
+        } else {
+            runOnMainThread(() -> {
+                processor.cancelZone(zone);
+                zoneMembership.removeZone(zone);
+            });
+        }
+    }
+
+    public void unloadWorld(UUID worldId) {
+        if (worldId == null) return;
+        if (!isMainThread()) {
+            runOnMainThread(() -> unloadWorld(worldId));
+            return;
+        }
+
+        for (ZoneInstanceImpl zone : spatialManager.removeWorld(worldId)) {
+            zone.deactivate();
+            activeZones.remove(zone.getId(), zone);
+            processor.cancelZone(zone);
+            zoneMembership.removeZone(zone);
+        }
+
+        for (SoundInstanceImpl sound : worldSounds.removeWorld(worldId)) {
+            sound.stop();
+            removeSoundInstance(sound);
+        }
+    }
+
+    public AudioProcessor getProcessor() {
+        return processor;
     }
 
     public SpatialManager getSpatialManager() {
         return spatialManager;
     }
 
-    SoundPool getSoundPool() {
+    public SoundPool getSoundPool() {
         return soundPool;
     }
 }
\ No newline at end of file
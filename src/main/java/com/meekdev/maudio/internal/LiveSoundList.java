@@ -0,0 +1,63 @@
+package com.meekdev.maudio.internal;
+
+import com.meekdev.maudio.internal.model.SoundInstanceImpl;
+
+import java.util.Arrays;
+
+public class LiveSoundList {
+    private SoundInstanceImpl[] elements;
+    private int size;
+
+    public LiveSoundList(int initialCapacity) {
+        this.elements = new SoundInstanceImpl[Math.max(1, initialCapacity)];
+    }
+
+    public void add(SoundInstanceImpl instance) {
+        if (instance == null || instance.getLiveIndex() >= 0) return;
+
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+
+        elements[size] = instance;
+        instance.setLiveIndex(size);
+        size++;
+    }
+
+    public boolean remove(SoundInstanceImpl instance) {
+        if (instance == null) return false;
+
+        int index = instance.getLiveIndex();
+        if (index < 0 || index >= size || elements[index] != instance) {
+            return false;
+        }
+
+        int last = --size;
+        SoundInstanceImpl moved = elements[last];
+        elements[index] = moved;
+        moved.setLiveIndex(index);
+        elements[last] = null;
+        instance.setLiveIndex(-1);
+        return true;
+    }
+
+    public SoundInstanceImpl get(int index) {
+        return elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[i].setLiveIndex(-1);
+            elements[i] = null;
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.meekdev.maudio.internal;
+
+import com.meekdev.maudio.internal.model.SoundInstanceImpl;
+import org.bukkit.SoundCategory;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class PlayerSoundIndex {
+    private static final SoundCategory[] CATEGORIES = SoundCategory.values();
+
+    private final Map<UUID, List<SoundInstanceImpl>[]> sounds = new HashMap<>();
+
+    public void add(SoundInstanceImpl instance) {
+        Player player = instance.getPlayerOrNull();
+        if (player == null) return;
+
+        List<SoundInstanceImpl>[] byCategory = sounds.computeIfAbsent(player.getUniqueId(), id -> newBuckets());
+        int slot = slot(instance.getCategory());
+        List<SoundInstanceImpl> bucket = byCategory[slot];
+        if (bucket == null) {
+            bucket = new ArrayList<>(4);
+            byCategory[slot] = bucket;
+        }
+        bucket.add(instance);
+    }
+
+    public void remove(SoundInstanceImpl instance) {
+        Player player = instance.getPlayerOrNull();
+        if (player == null) return;
+
+        UUID playerId = player.getUniqueId();
+        List<SoundInstanceImpl>[] byCategory = sounds.get(playerId);
+        if (byCategory == null) return;
+
+        List<SoundInstanceImpl> bucket = byCategory[slot(instance.getCategory())];
+        if (bucket == null) return;
+
+        for (int i = bucket.size() - 1; i >= 0; i--) {
+            if (bucket.get(i) == instance) {
+                int last = bucket.size() - 1;
+                bucket.set(i, bucket.get(last));
+                bucket.remove(last);
+                break;
+            }
+        }
+
+        if (bucket.isEmpty() && isEmpty(byCategory)) {
+            sounds.remove(playerId);
+        }
+    }
+
+    public List<SoundInstanceImpl> get(UUID playerId) {
+        List<SoundInstanceImpl>[] byCategory = sounds.get(playerId);
+        if (byCategory == null) return List.of();
+
+        List<SoundInstanceImpl> result = new ArrayList<>();
+        for (List<SoundInstanceImpl> bucket : byCategory) {
+            if (bucket != null) {
+                result.addAll(bucket);
+            }
+        }
+        return result;
+    }
+
+    public List<SoundInstanceImpl> get(UUID playerId, SoundCategory category) {
+        List<SoundInstanceImpl>[] byCategory = sounds.get(playerId);
+        if (byCategory == null) return List.of();
+
+        List<SoundInstanceImpl> bucket = byCategory[slot(category)];
+        return bucket == null || bucket.isEmpty() ? List.of() : new ArrayList<>(bucket);
+    }
+
+    public void clear() {
+        sounds.clear();
+    }
+
+    private static int slot(SoundCategory category) {
+        return category != null ? category.ordinal() : SoundCategory.MASTER.ordinal();
+    }
+
+    private static boolean isEmpty(List<SoundInstanceImpl>[] byCategory) {
+        for (List<SoundInstanceImpl> bucket : byCategory) {
+            if (bucket != null && !bucket.isEmpty()) return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<SoundInstanceImpl>[] newBuckets() {
+        return new List[CATEGORIES.length];
+    }
+}
@@ -0,0 +1,245 @@
+package com.meekdev.maudio.internal;
+
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+public class PlayerStateTable {
+    public static final long NO_BLOCK = Long.MIN_VALUE;
+    public static final long NO_TICK = Long.MIN_VALUE;
+    private static final int EMPTY = -1;
+
+    private volatile SlotIndex index = new SlotIndex(16);
+    private int size;
+    private int[] freeSlots;
+    private int freeCount;
+    private int nextSlot;
+
+    private volatile float[] volumes;
+    private long[] stepCooldownTicks;
+    private long[] interactCooldownTicks;
+    private long[] lastBlocks;
+    private long[] packetTicks;
+    private int[] packetCounts;
+
+    public PlayerStateTable(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.freeSlots = new int[capacity];
+        this.volumes = new float[capacity];
+        this.stepCooldownTicks = new long[capacity];
+        this.interactCooldownTicks = new long[capacity];
+        this.lastBlocks = new long[capacity];
+        this.packetTicks = new long[capacity];
+        this.packetCounts = new int[capacity];
+    }
+
+    public int slotOf(Player player) {
+        int slot = find(player.getUniqueId());
+        return slot >= 0 ? slot : assign(player.getUniqueId());
+    }
+
+    public int find(UUID playerId) {
+        return index.find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+    }
+
+    public int assign(UUID playerId) {
+        int existing = find(playerId);
+        if (existing >= 0) {
+            return existing;
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = nextSlot++;
+            if (slot == volumes.length) {
+                grow();
+            }
+        }
+
+        volumes[slot] = 1.0f;
+        stepCooldownTicks[slot] = NO_TICK;
+        interactCooldownTicks[slot] = NO_TICK;
+        lastBlocks[slot] = NO_BLOCK;
+        packetTicks[slot] = NO_TICK;
+
+        int capacity = index.capacity();
+        SlotIndex next = index.resize((size + 1) * 2 > capacity ? capacity * 2 : capacity);
+        next.put(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), slot);
+        index = next;
+        size++;
+        return slot;
+    }
+
+    public void free(UUID playerId) {
+        if (find(playerId) < 0) return;
+
+        SlotIndex next = index.resize(index.capacity());
+        int slot = next.remove(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        index = next;
+        size--;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    public void clear() {
+        index = new SlotIndex(16);
+        size = 0;
+        freeCount = 0;
+        nextSlot = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float getVolume(int slot) {
+        return volumes[slot];
+    }
+
+    public void setVolume(int slot, float volume) {
+        volumes[slot] = volume;
+    }
+
+    public long getStepCooldownTick(int slot) {
+        return stepCooldownTicks[slot];
+    }
+
+    public void setStepCooldownTick(int slot, long tick) {
+        stepCooldownTicks[slot] = tick;
+    }
+
+    public long getInteractCooldownTick(int slot) {
+        return interactCooldownTicks[slot];
+    }
+
+    public void setInteractCooldownTick(int slot, long tick) {
+        interactCooldownTicks[slot] = tick;
+    }
+
+    public long getLastBlock(int slot) {
+        return lastBlocks[slot];
+    }
+
+    public void setLastBlock(int slot, long packedBlock) {
+        lastBlocks[slot] = packedBlock;
+    }
+
+    public boolean tryConsumePacket(int slot, long tick, int budget) {
+        if (packetTicks[slot] != tick) {
+            packetTicks[slot] = tick;
+            packetCounts[slot] = 0;
+        }
+
+        if (packetCounts[slot] >= budget) {
+            return false;
+        }
+        packetCounts[slot]++;
+        return true;
+    }
+
+    public static long packBlock(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private void grow() {
+        int capacity = volumes.length * 2;
+        stepCooldownTicks = Arrays.copyOf(stepCooldownTicks, capacity);
+        interactCooldownTicks = Arrays.copyOf(interactCooldownTicks, capacity);
+        lastBlocks = Arrays.copyOf(lastBlocks, capacity);
+        packetTicks = Arrays.copyOf(packetTicks, capacity);
+        packetCounts = Arrays.copyOf(packetCounts, capacity);
+        volumes = Arrays.copyOf(volumes, capacity);
+    }
+
+    private static final class SlotIndex {
+        private final long[] mostBits;
+        private final long[] leastBits;
+        private final int[] slots;
+
+        SlotIndex(int capacity) {
+            this.mostBits = new long[capacity];
+            this.leastBits = new long[capacity];
+            this.slots = new int[capacity];
+            Arrays.fill(slots, EMPTY);
+        }
+
+        int capacity() {
+            return slots.length;
+        }
+
+        int find(long most, long least) {
+            int mask = slots.length - 1;
+            int i = hash(most, least) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                int slot = slots[i];
+                if (slot == EMPTY) {
+                    return EMPTY;
+                }
+                if (mostBits[i] == most && leastBits[i] == least) {
+                    return slot;
+                }
+                i = (i + 1) & mask;
+            }
+            return EMPTY;
+        }
+
+        void put(long most, long least, int slot) {
+            int mask = slots.length - 1;
+            int i = hash(most, least) & mask;
+            while (slots[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            mostBits[i] = most;
+            leastBits[i] = least;
+            slots[i] = slot;
+        }
+
+        int remove(long most, long least) {
+            int mask = slots.length - 1;
+            int i = hash(most, least) & mask;
+            while (slots[i] != EMPTY && (mostBits[i] != most || leastBits[i] != least)) {
+                i = (i + 1) & mask;
+            }
+
+            int removed = slots[i];
+            if (removed == EMPTY) {
+                return EMPTY;
+            }
+
+            slots[i] = EMPTY;
+            for (int j = (i + 1) & mask; slots[j] != EMPTY; j = (j + 1) & mask) {
+                int home = hash(mostBits[j], leastBits[j]) & mask;
+                boolean reachable = i <= j ? (home <= i || home > j) : (home <= i && home > j);
+                if (reachable) {
+                    mostBits[i] = mostBits[j];
+                    leastBits[i] = leastBits[j];
+                    slots[i] = slots[j];
+                    slots[j] = EMPTY;
+                    i = j;
+                }
+            }
+            return removed;
+        }
+
+        SlotIndex resize(int capacity) {
+            SlotIndex resized = new SlotIndex(capacity);
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] != EMPTY) {
+                    resized.put(mostBits[i], leastBits[i], slots[i]);
+                }
+            }
+            return resized;
+        }
+
+        private static int hash(long most, long least) {
+            long h = (most ^ least) * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -6,65 +6,272 @@ import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
 import org.bukkit.entity.Player;
 
-import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SoundPool {
-    private final Queue<SoundInstanceImpl> pool = new ConcurrentLinkedQueue<>();
+    private static final int EMPTY = -1;
+
+    private final SoundInstanceImpl[] slab;
+    private final AtomicIntegerArray next;
+    private final AtomicIntegerArray leased;
+    private final AtomicLong freeHead = new AtomicLong(pack(0, EMPTY));
     private final AtomicInteger activeSounds = new AtomicInteger(0);
-    private final int maxPoolSize;
-    private final int maxActiveSounds;
+    private final AtomicInteger highWaterMark = new AtomicInteger(0);
+    private final AtomicInteger windowPeak = new AtomicInteger(0);
+    private final AtomicLong exhaustedCount = new AtomicLong(0);
+    private final AtomicLong sequence = new AtomicLong(0);
+    private final Object resizeLock = new Object();
+
+    private final boolean adaptive;
+    private final int initialCapacity;
+    private final int maxCapacity;
+    private final int shrinkIdleTicks;
+
+    private volatile int capacity;
+    private volatile int activeLimit;
+    private int idleTicks;
 
     public SoundPool(int poolSize, int maxSounds) {
-        this.maxPoolSize = poolSize;
-        this.maxActiveSounds = maxSounds;
+        this(poolSize, maxSounds, false, poolSize, 0);
+    }
+
+    public SoundPool(int poolSize, int maxSounds, boolean adaptive, int maxPoolSize, int shrinkIdleTicks) {
+        this.adaptive = adaptive;
+        this.initialCapacity = Math.max(1, poolSize);
+        this.maxCapacity = adaptive ? Math.max(initialCapacity, maxPoolSize) : initialCapacity;
+        this.shrinkIdleTicks = Math.max(1, shrinkIdleTicks);
+
+        this.slab = new SoundInstanceImpl[maxCapacity];
+        this.next = new AtomicIntegerArray(maxCapacity);
+        this.leased = new AtomicIntegerArray(maxCapacity);
 
-        for (int i = 0; i < poolSize / 4; i++) {
-            pool.add(createEmptyInstance());
+        for (int i = initialCapacity - 1; i >= 0; i--) {
+            slab[i] = createEmptyInstance(i);
+            pushFree(i);
         }
+
+        this.capacity = initialCapacity;
+        this.activeLimit = adaptive ? initialCapacity : Math.max(0, Math.min(maxSounds, initialCapacity));
     }
 
     public SoundInstanceImpl obtain(Sound sound, String customSound, SoundCategory category,
                                     float volume, float pitch, Player player, Location location,
                                     boolean looping, int intervalTicks) {
 
-        if (activeSounds.get() >= maxActiveSounds) {
+        if (!reservePermit() && !(adaptive && grow() && reservePermit())) {
+            exhaustedCount.incrementAndGet();
             return null;
         }
 
-        SoundInstanceImpl instance = pool.poll();
-        if (instance == null) {
-            if (activeSounds.get() + pool.size() < maxPoolSize) {
-                instance = createEmptyInstance();
-            } else {
+        int slot = popFree();
+        if (slot == EMPTY) {
+            synchronized (resizeLock) {
+                slot = popFree();
+            }
+            if (slot == EMPTY) {
+                activeSounds.decrementAndGet();
+                exhaustedCount.incrementAndGet();
                 return null;
             }
         }
 
-        UUID id = UUID.randomUUID();
-        instance.reset(id, sound, customSound, category,
+        leased.set(slot, 1);
+        SoundInstanceImpl instance = slab[slot];
+        instance.reset(randomId(), sound, customSound, category,
                 volume, pitch, player, location, looping, intervalTicks);
+        instance.setSequence(sequence.incrementAndGet());
 
-        activeSounds.incrementAndGet();
         return instance;
     }
 
     public void release(SoundInstanceImpl instance) {
         if (instance == null) return;
 
+        int slot = instance.getPoolSlot();
+        if (slot < 0 || slot >= slab.length || slab[slot] != instance) return;
+        if (!leased.compareAndSet(slot, 1, 0)) return;
+
         instance.reset(null, null, null, null, 0, 0, null, null, false, 0);
 
-        if (pool.size() < maxPoolSize) {
-            pool.add(instance);
-        }
+        pushFree(slot);
+        activeSounds.decrementAndGet();
+    }
+
+    public void retire(SoundInstanceImpl instance) {
+        if (instance == null) return;
 
+        int slot = instance.getPoolSlot();
+        if (slot < 0 || slot >= slab.length || slab[slot] != instance) return;
+        if (!leased.compareAndSet(slot, 1, 0)) return;
+
+        instance.setPoolSlot(-1);
+        slab[slot] = createEmptyInstance(slot);
+
+        pushFree(slot);
         activeSounds.decrementAndGet();
     }
 
-    private SoundInstanceImpl createEmptyInstance() {
-        return new SoundInstanceImpl(null, null, null, null, 0, 0, null);
+    public void maintain(int elapsedTicks) {
+        if (!adaptive) return;
+
+        idleTicks += elapsedTicks;
+        if (idleTicks < shrinkIdleTicks) return;
+        idleTicks = 0;
+
+        int peak = windowPeak.getAndSet(activeSounds.get());
+        int current = capacity;
+        if (current <= initialCapacity || peak * 4 > current) return;
+
+        int target = initialCapacity;
+        while (target < peak * 2) {
+            target *= 2;
+        }
+
+        if (target < current) {
+            shrink(target);
+        }
+    }
+
+    private boolean reservePermit() {
+        while (true) {
+            int active = activeSounds.get();
+            if (active >= activeLimit) {
+                return false;
+            }
+            if (activeSounds.compareAndSet(active, active + 1)) {
+                recordPeak(active + 1);
+                return true;
+            }
+        }
+    }
+
+    private void recordPeak(int active) {
+        if (active > windowPeak.get()) {
+            windowPeak.accumulateAndGet(active, Math::max);
+        }
+        if (active > highWaterMark.get()) {
+            highWaterMark.accumulateAndGet(active, Math::max);
+        }
+    }
+
+    private boolean grow() {
+        synchronized (resizeLock) {
+            if (activeSounds.get() < activeLimit) {
+                return true;
+            }
+
+            int current = capacity;
+            if (current >= maxCapacity) {
+                return false;
+            }
+
+            int target = (int) Math.min(maxCapacity, current * 2L);
+            for (int slot = current; slot < target; slot++) {
+                if (slab[slot] == null) {
+                    slab[slot] = createEmptyInstance(slot);
+                    pushFree(slot);
+                }
+            }
+
+            capacity = target;
+            activeLimit = target;
+            return true;
+        }
+    }
+
+    private void shrink(int target) {
+        synchronized (resizeLock) {
+            if (target >= capacity || target < activeSounds.get()) return;
+
+            capacity = target;
+            activeLimit = target;
+
+            int[] drained = new int[maxCapacity];
+            int count = 0;
+            for (int slot = popRaw(); slot != EMPTY; slot = popRaw()) {
+                drained[count++] = slot;
+            }
+
+            for (int i = count - 1; i >= 0; i--) {
+                int slot = drained[i];
+                if (slot < target) {
+                    pushFree(slot);
+                } else {
+                    slab[slot] = null;
+                }
+            }
+        }
+    }
+
+    private int popFree() {
+        while (true) {
+            int slot = popRaw();
+            if (slot == EMPTY || slot < capacity) {
+                return slot;
+            }
+
+            synchronized (resizeLock) {
+                if (slot < capacity) {
+                    return slot;
+                }
+                slab[slot] = null;
+            }
+        }
+    }
+
+    private int popRaw() {
+        while (true) {
+            long head = freeHead.get();
+            int slot = index(head);
+            if (slot == EMPTY) {
+                return EMPTY;
+            }
+
+            long updated = pack(tag(head) + 1, next.get(slot));
+            if (freeHead.compareAndSet(head, updated)) {
+                return slot;
+            }
+        }
+    }
+
+    private void pushFree(int slot) {
+        while (true) {
+            long head = freeHead.get();
+            next.set(slot, index(head));
+
+            if (freeHead.compareAndSet(head, pack(tag(head) + 1, slot))) {
+                return;
+            }
+        }
+    }
+
+    private static long pack(int tag, int index) {
+        return ((long) tag << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    private static int tag(long head) {
+        return (int) (head >>> 32);
+    }
+
+    private static int index(long head) {
+        return (int) head;
+    }
+
+    private static UUID randomId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private SoundInstanceImpl createEmptyInstance(int slot) {
+        SoundInstanceImpl instance = new SoundInstanceImpl(null, null, null, null, 0, 0, null);
+        instance.setPoolSlot(slot);
+        return instance;
     }
 
     public int getActiveCount() {
@@ -72,10 +279,30 @@ public class SoundPool {
     }
 
     public int getPooledCount() {
-        return pool.size();
+        return capacity - activeSounds.get();
     }
 
     public int getMaxSize() {
-        return maxPoolSize;
+        return maxCapacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxActiveSounds() {
+        return activeLimit;
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark.get();
+    }
+
+    public long getExhaustedCount() {
+        return exhaustedCount.get();
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
     }
-}
\ No newline at end of file
+}
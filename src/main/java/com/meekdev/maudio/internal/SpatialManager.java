@@ -12,14 +12,20 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class SpatialManager {
-    private final Map<UUID, List<ZoneInstanceImpl>> worldZones = new ConcurrentHashMap<>();
-    private final Map<UUID, Map<UUID, CachedDistance>> distanceCache = new ConcurrentHashMap<>();
+    private static final int MAX_ZONE_CELLS = 64;
+
+    private final Map<UUID, WorldGrid> worldGrids = new ConcurrentHashMap<>();
+    private final Map<UUID, CellRange> zoneCells = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<UUID, ZoneInstanceImpl>> worldZones = new ConcurrentHashMap<>();
+    private final Map<UUID, ZoneSample> samples = new ConcurrentHashMap<>();
     private final int gridSize;
-    private final int cacheDuration;
+    private final int idleTicks;
+    private final TickClock clock;
 
-    public SpatialManager(int gridSize, int cacheDuration) {
-        this.gridSize = gridSize;
-        this.cacheDuration = cacheDuration;
+    public SpatialManager(int gridSize, int idleTicks, TickClock clock) {
+        this.gridSize = Math.max(1, gridSize);
+        this.idleTicks = idleTicks;
+        this.clock = clock;
     }
 
     public void addZone(ZoneInstanceImpl zone) {
@@ -30,56 +36,86 @@ public class SpatialManager {
             return;
         }
 
-        UUID worldId = world.getUID();
-        List<ZoneInstanceImpl> zones = worldZones.computeIfAbsent(worldId, k -> new ArrayList<>());
-
-        zones.add(zone);
+        CellRange range = computeRange(world.getUID(), center, zone.getRadius());
+        WorldGrid grid = worldGrids.computeIfAbsent(range.worldId, k -> new WorldGrid());
+        insert(grid, zone, range, null);
+        grid.version++;
+        zoneCells.put(zone.getId(), range);
+        worldZones.computeIfAbsent(range.worldId, k -> new ConcurrentHashMap<>()).put(zone.getId(), zone);
     }
 
     public void removeZone(ZoneInstanceImpl zone) {
-        UUID worldId = zone.getWorldId();
-        if (worldId == null) {
+        CellRange range = zoneCells.remove(zone.getId());
+        if (range == null) {
             return;
         }
 
-        List<ZoneInstanceImpl> zones = worldZones.get(worldId);
+        Map<UUID, ZoneInstanceImpl> zones = worldZones.get(range.worldId);
         if (zones != null) {
-            zones.removeIf(z -> z.getId().equals(zone.getId()));
+            zones.remove(zone.getId());
+            if (zones.isEmpty()) {
+                worldZones.remove(range.worldId);
+            }
         }
+
+        WorldGrid grid = worldGrids.get(range.worldId);
+        if (grid == null) {
+            return;
+        }
+
+        remove(grid, zone, range, null);
+        grid.version++;
     }
 
     public void updateZone(ZoneInstanceImpl zone) {
-        removeZone(zone);
-        addZone(zone);
-    }
+        CellRange previous = zoneCells.get(zone.getId());
+        if (previous == null) {
+            addZone(zone);
+            return;
+        }
 
-    public List<ZoneInstanceImpl> getZonesInRange(Player player) {
-        if (player == null || !player.isOnline()) {
-            return new ArrayList<>();
+        Location center = zone.getCenter();
+        World world = center.getWorld();
+        if (world == null) {
+            removeZone(zone);
+            return;
         }
 
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
+        CellRange range = computeRange(world.getUID(), center, zone.getRadius());
+        if (range.equals(previous)) {
+            return;
+        }
 
-        if (world == null) {
-            return new ArrayList<>();
+        if (!range.worldId.equals(previous.worldId)) {
+            removeZone(zone);
+            addZone(zone);
+            return;
         }
 
-        UUID worldId = world.getUID();
-        List<ZoneInstanceImpl> zones = worldZones.get(worldId);
+        WorldGrid grid = worldGrids.computeIfAbsent(previous.worldId, k -> new WorldGrid());
+        remove(grid, zone, previous, range);
+        insert(grid, zone, range, previous);
+        grid.version++;
+        zoneCells.put(zone.getId(), range);
+    }
 
-        if (zones == null || zones.isEmpty()) {
+    public List<ZoneInstanceImpl> getZonesInRange(Player player) {
+        if (player == null || !player.isOnline()) {
+            return new ArrayList<>();
+        }
+
+        ZoneSample sample = sample(player, player.getLocation());
+        if (sample == null || sample.size == 0) {
             return new ArrayList<>();
         }
 
         List<ZoneInstanceImpl> result = new ArrayList<>();
-        for (ZoneInstanceImpl zone : zones) {
+        for (int i = 0; i < sample.size; i++) {
+            ZoneInstanceImpl zone = sample.zones[i];
             if (!zone.isActive()) continue;
 
-            double distanceSq = getCachedDistanceSquared(player, zone);
             double radiusSq = zone.getRadius() * zone.getRadius();
-
-            if (distanceSq <= radiusSq) {
+            if (sample.distances[i] <= radiusSq) {
                 result.add(zone);
             }
         }
@@ -87,56 +123,354 @@ public class SpatialManager {
         return result;
     }
 
-    public double getCachedDistanceSquared(Player player, ZoneInstanceImpl zone) {
+    public ZoneSample sample(Player player, Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return null;
+        }
+
         UUID playerId = player.getUniqueId();
-        UUID zoneId = zone.getId();
+        ZoneSample sample = samples.get(playerId);
+        if (sample == null) {
+            sample = new ZoneSample();
+            samples.put(playerId, sample);
+        }
 
-        Map<UUID, CachedDistance> playerCache = distanceCache.computeIfAbsent(
-                playerId, k -> new ConcurrentHashMap<>()
-        );
+        sample.lastUsedTick = clock.now();
 
-        CachedDistance cached = playerCache.get(zoneId);
-        long now = System.currentTimeMillis();
+        UUID worldId = world.getUID();
+        long blockKey = PlayerStateTable.packBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        WorldGrid cached = sample.grid;
+        if (cached != null && sample.blockKey == blockKey && sample.version == cached.version
+                && worldId.equals(sample.worldId)) {
+            return sample;
+        }
 
-        if (cached != null && now - cached.timestamp < cacheDuration) {
-            return cached.distanceSquared;
+        WorldGrid grid = worldGrids.get(worldId);
+        if (grid != null) {
+            sample.fill(getCell(grid, location), grid.overflow, location.getX(), location.getY(), location.getZ());
+        } else {
+            sample.fill(List.of(), List.of(), location.getX(), location.getY(), location.getZ());
         }
+        sample.worldId = worldId;
+        sample.blockKey = blockKey;
+        sample.grid = grid;
+        sample.version = grid != null ? grid.version : -1;
+        return sample;
+    }
 
-        Location playerLoc = player.getLocation();
-        Location zoneCenter = zone.getCenter();
-        double distSq = playerLoc.distanceSquared(zoneCenter);
+    public List<ZoneInstanceImpl> getZonesInCell(UUID worldId, Location location) {
+        WorldGrid grid = worldGrids.get(worldId);
+        if (grid == null) {
+            return List.of();
+        }
+
+        List<ZoneInstanceImpl> cell = getCell(grid, location);
+        if (grid.overflow.isEmpty()) {
+            return cell;
+        }
 
-        playerCache.put(zoneId, new CachedDistance(distSq, now));
-        return distSq;
+        List<ZoneInstanceImpl> zones = new ArrayList<>(cell.size() + grid.overflow.size());
+        zones.addAll(cell);
+        zones.addAll(grid.overflow);
+        return zones;
+    }
+
+    public List<ZoneInstanceImpl> removeWorld(UUID worldId) {
+        WorldGrid grid = worldGrids.remove(worldId);
+        if (grid != null) {
+            grid.version++;
+        }
+
+        Map<UUID, ZoneInstanceImpl> zones = worldZones.remove(worldId);
+        if (zones == null) {
+            return List.of();
+        }
+
+        for (UUID zoneId : zones.keySet()) {
+            zoneCells.remove(zoneId);
+        }
+
+        return new ArrayList<>(zones.values());
+    }
+
+    public int countLoadedChunks(ZoneInstanceImpl zone) {
+        World world = zone.getWorld();
+        if (world == null || !zoneCells.containsKey(zone.getId())) {
+            return 0;
+        }
+
+        double radius = Math.max(0, zone.getRadius());
+        int minX = toChunk(zone.getCenterX() - radius);
+        int maxX = toChunk(zone.getCenterX() + radius);
+        int minZ = toChunk(zone.getCenterZ() - radius);
+        int maxZ = toChunk(zone.getCenterZ() + radius);
+
+        int loaded = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                if (world.isChunkLoaded(x, z)) {
+                    loaded++;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public List<ZoneInstanceImpl> loadChunk(UUID worldId, int chunkX, int chunkZ) {
+        return adjustLoadedChunks(worldId, chunkX, chunkZ, 1);
+    }
+
+    public List<ZoneInstanceImpl> unloadChunk(UUID worldId, int chunkX, int chunkZ) {
+        return adjustLoadedChunks(worldId, chunkX, chunkZ, -1);
     }
 
     public void clearPlayerCache(UUID playerId) {
-        distanceCache.remove(playerId);
+        samples.remove(playerId);
     }
 
     public void clear() {
+        for (WorldGrid grid : worldGrids.values()) {
+            grid.version++;
+        }
+        worldGrids.clear();
+        zoneCells.clear();
         worldZones.clear();
-        distanceCache.clear();
+        samples.clear();
     }
 
     public void cleanup() {
-        long now = System.currentTimeMillis();
-        long expiry = cacheDuration * 3;
+        if (samples.isEmpty()) return;
+
+        long now = clock.now();
+        samples.values().removeIf(sample -> now - sample.lastUsedTick > idleTicks);
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    private List<ZoneInstanceImpl> getCell(WorldGrid grid, Location location) {
+        List<ZoneInstanceImpl> zones = grid.cells.get(cellKey(toCell(location.getX()), toCell(location.getZ())));
+        return zones != null ? zones : List.of();
+    }
 
-        for (Map<UUID, CachedDistance> playerCache : distanceCache.values()) {
-            playerCache.entrySet().removeIf(entry -> now - entry.getValue().timestamp > expiry);
+    private void insert(WorldGrid grid, ZoneInstanceImpl zone, CellRange range, CellRange skip) {
+        if (range.overflow) {
+            if (skip == null || !skip.overflow) {
+                grid.overflow.add(zone);
+            }
+            return;
+        }
+
+        for (int cx = range.minX; cx <= range.maxX; cx++) {
+            for (int cz = range.minZ; cz <= range.maxZ; cz++) {
+                if (skip != null && !skip.overflow && skip.contains(cx, cz)) continue;
+                grid.cells.computeIfAbsent(cellKey(cx, cz), k -> new ArrayList<>()).add(zone);
+            }
+        }
+    }
+
+    private void remove(WorldGrid grid, ZoneInstanceImpl zone, CellRange range, CellRange keep) {
+        if (range.overflow) {
+            if (keep == null || !keep.overflow) {
+                grid.overflow.remove(zone);
+            }
+            return;
+        }
+
+        for (int cx = range.minX; cx <= range.maxX; cx++) {
+            for (int cz = range.minZ; cz <= range.maxZ; cz++) {
+                if (keep != null && !keep.overflow && keep.contains(cx, cz)) continue;
+                removeFromCell(grid, cellKey(cx, cz), zone);
+            }
+        }
+    }
+
+    private void removeFromCell(WorldGrid grid, long key, ZoneInstanceImpl zone) {
+        List<ZoneInstanceImpl> cell = grid.cells.get(key);
+        if (cell == null) {
+            return;
+        }
+
+        cell.remove(zone);
+        if (cell.isEmpty()) {
+            grid.cells.remove(key);
+        }
+    }
+
+    private List<ZoneInstanceImpl> adjustLoadedChunks(UUID worldId, int chunkX, int chunkZ, int delta) {
+        WorldGrid grid = worldGrids.get(worldId);
+        if (grid == null) {
+            return List.of();
+        }
+
+        int minCellX = toCell(chunkX << 4);
+        int maxCellX = toCell((chunkX << 4) + 15);
+        int minCellZ = toCell(chunkZ << 4);
+        int maxCellZ = toCell((chunkZ << 4) + 15);
+
+        List<ZoneInstanceImpl> changed = null;
+        for (int i = 0; i < grid.overflow.size(); i++) {
+            changed = adjustLoadedChunks(grid.overflow.get(i), chunkX, chunkZ, delta, changed);
+        }
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+                List<ZoneInstanceImpl> cell = grid.cells.get(cellKey(cx, cz));
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    ZoneInstanceImpl zone = cell.get(i);
+                    CellRange range = zoneCells.get(zone.getId());
+                    if (range == null || cx != Math.max(minCellX, range.minX) || cz != Math.max(minCellZ, range.minZ)) {
+                        continue;
+                    }
+                    changed = adjustLoadedChunks(zone, chunkX, chunkZ, delta, changed);
+                }
+            }
+        }
+
+        return changed != null ? changed : List.of();
+    }
+
+    private List<ZoneInstanceImpl> adjustLoadedChunks(ZoneInstanceImpl zone, int chunkX, int chunkZ, int delta,
+                                                      List<ZoneInstanceImpl> changed) {
+        if (!overlapsChunk(zone, chunkX, chunkZ)) {
+            return changed;
+        }
+
+        boolean wasAwake = zone.isAwake();
+        zone.setLoadedChunks(zone.getLoadedChunks() + delta);
+        if (wasAwake != zone.isAwake()) {
+            if (changed == null) {
+                changed = new ArrayList<>();
+            }
+            changed.add(zone);
         }
+        return changed;
+    }
+
+    private boolean overlapsChunk(ZoneInstanceImpl zone, int chunkX, int chunkZ) {
+        double radius = Math.max(0, zone.getRadius());
+        return chunkX >= toChunk(zone.getCenterX() - radius) && chunkX <= toChunk(zone.getCenterX() + radius)
+                && chunkZ >= toChunk(zone.getCenterZ() - radius) && chunkZ <= toChunk(zone.getCenterZ() + radius);
+    }
 
-        distanceCache.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+    private static int toChunk(double coordinate) {
+        return (int) Math.floor(coordinate) >> 4;
     }
 
-    private static class CachedDistance {
-        final double distanceSquared;
-        final long timestamp;
+    private CellRange computeRange(UUID worldId, Location center, double radius) {
+        double r = Math.max(0, radius);
+        return new CellRange(
+                worldId,
+                toCell(center.getX() - r),
+                toCell(center.getZ() - r),
+                toCell(center.getX() + r),
+                toCell(center.getZ() + r)
+        );
+    }
+
+    private int toCell(double coordinate) {
+        return Math.floorDiv((int) Math.floor(coordinate), gridSize);
+    }
+
+    static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static final class WorldGrid {
+        final Map<Long, List<ZoneInstanceImpl>> cells = new ConcurrentHashMap<>();
+        final List<ZoneInstanceImpl> overflow = new ArrayList<>();
+        volatile long version;
+    }
+
+    private static final class CellRange {
+        final UUID worldId;
+        final int minX;
+        final int minZ;
+        final int maxX;
+        final int maxZ;
+        final boolean overflow;
+
+        CellRange(UUID worldId, int minX, int minZ, int maxX, int maxZ) {
+            this.worldId = worldId;
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+            this.overflow = ((long) maxX - minX + 1) * ((long) maxZ - minZ + 1) > MAX_ZONE_CELLS;
+        }
+
+        boolean contains(int cellX, int cellZ) {
+            return cellX >= minX && cellX <= maxX && cellZ >= minZ && cellZ <= maxZ;
+        }
 
-        CachedDistance(double distanceSquared, long timestamp) {
-            this.distanceSquared = distanceSquared;
-            this.timestamp = timestamp;
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CellRange)) return false;
+            CellRange other = (CellRange) o;
+            return minX == other.minX && minZ == other.minZ && maxX == other.maxX
+                    && maxZ == other.maxZ && worldId.equals(other.worldId);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = worldId.hashCode();
+            result = 31 * result + minX;
+            result = 31 * result + minZ;
+            result = 31 * result + maxX;
+            result = 31 * result + maxZ;
+            return result;
+        }
+    }
+
+    public static final class ZoneSample {
+        private ZoneInstanceImpl[] zones = new ZoneInstanceImpl[8];
+        private double[] distances = new double[8];
+        private int size;
+        private UUID worldId;
+        private long blockKey = PlayerStateTable.NO_BLOCK;
+        private WorldGrid grid;
+        private long version = -1;
+        private long lastUsedTick;
+
+        public int size() {
+            return size;
+        }
+
+        public ZoneInstanceImpl getZone(int index) {
+            return zones[index];
+        }
+
+        public double getDistanceSquared(int index) {
+            return distances[index];
+        }
+
+        private void fill(List<ZoneInstanceImpl> cell, List<ZoneInstanceImpl> overflow, double x, double y, double z) {
+            int cellCount = cell.size();
+            int count = cellCount + overflow.size();
+            if (count > zones.length) {
+                int capacity = Math.max(count, zones.length * 2);
+                zones = new ZoneInstanceImpl[capacity];
+                distances = new double[capacity];
+            }
+
+            for (int i = 0; i < count; i++) {
+                ZoneInstanceImpl zone = i < cellCount ? cell.get(i) : overflow.get(i - cellCount);
+                double dx = zone.getCenterX() - x;
+                double dy = zone.getCenterY() - y;
+                double dz = zone.getCenterZ() - z;
+                zones[i] = zone;
+                distances[i] = dx * dx + dy * dy + dz * dz;
+            }
+
+            for (int i = count; i < size; i++) {
+                zones[i] = null;
+            }
+            size = count;
         }
     }
-}
\ No newline at end of file
+}
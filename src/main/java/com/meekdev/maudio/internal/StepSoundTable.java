@@ -0,0 +1,65 @@
+package com.meekdev.maudio.internal;
+
+import com.meekdev.maudio.StepHandler;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+public class StepSoundTable {
+    private static final Material[] MATERIALS = Material.values();
+
+    private volatile StepHandler[][] handlers = new StepHandler[MATERIALS.length][];
+    private volatile boolean empty = true;
+
+    public StepHandler[] get(Material material) {
+        return handlers[material.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public void register(Material material, StepHandler handler) {
+        register(List.of(material), handler);
+    }
+
+    public void register(Tag<Material> tag, StepHandler handler) {
+        register(tag.getValues(), handler);
+    }
+
+    public synchronized void register(Collection<Material> materials, StepHandler handler) {
+        if (materials.isEmpty()) return;
+
+        StepHandler[][] next = handlers.clone();
+        for (Material material : materials) {
+            StepHandler[] current = next[material.ordinal()];
+            if (current == null) {
+                next[material.ordinal()] = new StepHandler[]{handler};
+            } else {
+                StepHandler[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = handler;
+                next[material.ordinal()] = grown;
+            }
+        }
+
+        handlers = next;
+        empty = false;
+    }
+
+    public synchronized void clear(Material material) {
+        if (handlers[material.ordinal()] == null) return;
+
+        StepHandler[][] next = handlers.clone();
+        next[material.ordinal()] = null;
+        handlers = next;
+        empty = Arrays.stream(next).allMatch(entry -> entry == null);
+    }
+
+    public synchronized void clear() {
+        handlers = new StepHandler[MATERIALS.length][];
+        empty = true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.meekdev.maudio.internal;
+
+public final class TickClock {
+    public static final int TICKS_PER_SECOND = 20;
+
+    private long tick;
+
+    public long now() {
+        return tick;
+    }
+
+    public void advance() {
+        tick++;
+    }
+
+    public static long toTicks(float seconds) {
+        return Math.max(1, Math.round(seconds * TICKS_PER_SECOND));
+    }
+}
@@ -0,0 +1,92 @@
+package com.meekdev.maudio.internal;
+
+import com.meekdev.maudio.internal.model.SoundInstanceImpl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class WorldSoundIndex {
+    private final Map<UUID, Bucket> buckets = new HashMap<>();
+
+    public void add(SoundInstanceImpl instance) {
+        UUID worldId = instance.getWorldId();
+        if (worldId == null || instance.getPlayerOrNull() != null || instance.getIndexedWorldId() != null) return;
+
+        buckets.computeIfAbsent(worldId, id -> new Bucket()).add(instance);
+        instance.setIndexedWorldId(worldId);
+    }
+
+    public void remove(SoundInstanceImpl instance) {
+        UUID worldId = instance.getIndexedWorldId();
+        if (worldId == null) return;
+
+        Bucket bucket = buckets.get(worldId);
+        if (bucket != null) {
+            bucket.remove(instance);
+            if (bucket.size == 0) {
+                buckets.remove(worldId);
+            }
+        }
+        instance.setIndexedWorldId(null);
+        instance.setWorldIndex(-1);
+    }
+
+    public void update(SoundInstanceImpl instance) {
+        UUID worldId = instance.getWorldId();
+        UUID indexed = instance.getIndexedWorldId();
+        if (worldId == indexed || (worldId != null && worldId.equals(indexed))) return;
+
+        remove(instance);
+        add(instance);
+    }
+
+    public SoundInstanceImpl[] removeWorld(UUID worldId) {
+        Bucket bucket = buckets.remove(worldId);
+        if (bucket == null) return new SoundInstanceImpl[0];
+
+        SoundInstanceImpl[] sounds = Arrays.copyOf(bucket.elements, bucket.size);
+        for (SoundInstanceImpl sound : sounds) {
+            sound.setIndexedWorldId(null);
+            sound.setWorldIndex(-1);
+        }
+        return sounds;
+    }
+
+    public void clear() {
+        for (Bucket bucket : buckets.values()) {
+            for (int i = 0; i < bucket.size; i++) {
+                bucket.elements[i].setIndexedWorldId(null);
+                bucket.elements[i].setWorldIndex(-1);
+            }
+        }
+        buckets.clear();
+    }
+
+    private static final class Bucket {
+        SoundInstanceImpl[] elements = new SoundInstanceImpl[16];
+        int size;
+
+        void add(SoundInstanceImpl instance) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, elements.length * 2);
+            }
+
+            elements[size] = instance;
+            instance.setWorldIndex(size);
+            size++;
+        }
+
+        void remove(SoundInstanceImpl instance) {
+            int index = instance.getWorldIndex();
+            if (index < 0 || index >= size || elements[index] != instance) return;
+
+            int last = --size;
+            SoundInstanceImpl moved = elements[last];
+            elements[index] = moved;
+            moved.setWorldIndex(index);
+            elements[last] = null;
+        }
+    }
+}
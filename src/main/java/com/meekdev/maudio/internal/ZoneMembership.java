@@ -0,0 +1,271 @@
+package com.meekdev.maudio.internal;
+
+import com.meekdev.maudio.api.events.AudioEvent;
+import com.meekdev.maudio.internal.events.PlayerAudioEventImpl;
+import com.meekdev.maudio.internal.model.SoundInstanceImpl;
+import com.meekdev.maudio.internal.model.ZoneInstanceImpl;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class ZoneMembership {
+    public static final String ZONE_ENTER_EVENT = "zone_enter";
+    public static final String ZONE_EXIT_EVENT = "zone_exit";
+
+    private final AudioManager manager;
+    private final SpatialManager spatialManager;
+    private final double hysteresis;
+    private final Map<UUID, List<Member>> members = new HashMap<>();
+
+    public ZoneMembership(AudioManager manager, SpatialManager spatialManager, double hysteresis) {
+        this.manager = manager;
+        this.spatialManager = spatialManager;
+        this.hysteresis = Math.max(0, hysteresis);
+    }
+
+    public void update(Player player, Location location) {
+        World world = location.getWorld();
+        UUID worldId = world != null ? world.getUID() : null;
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+
+        List<Member> departed = null;
+        List<Member> current = members.get(player.getUniqueId());
+        if (current != null) {
+            for (int i = current.size() - 1; i >= 0; i--) {
+                Member member = current.get(i);
+                if (!isRetained(member.zone, worldId, x, y, z)) {
+                    removeAt(current, i);
+                    if (member.refused) continue;
+
+                    detach(player, member.zone);
+                    if (departed == null) {
+                        departed = new ArrayList<>(2);
+                    }
+                    departed.add(member);
+                }
+            }
+            if (current.isEmpty()) {
+                members.remove(player.getUniqueId());
+            }
+        }
+
+        List<ZoneInstanceImpl> entered = null;
+        SpatialManager.ZoneSample sample = worldId != null ? spatialManager.sample(player, location) : null;
+        if (sample != null) {
+            for (int i = 0; i < sample.size(); i++) {
+                ZoneInstanceImpl zone = sample.getZone(i);
+                double radius = zone.getRadius();
+                if (zone.isActive() && zone.isAwake() && sample.getDistanceSquared(i) <= radius * radius
+                        && find(player.getUniqueId(), zone) == null) {
+                    if (entered == null) {
+                        entered = new ArrayList<>(2);
+                    }
+                    entered.add(zone);
+                }
+            }
+        }
+
+        if (departed != null) {
+            for (Member member : departed) {
+                exit(player, member);
+            }
+        }
+        if (entered != null) {
+            for (ZoneInstanceImpl zone : entered) {
+                enter(player, zone);
+            }
+        }
+    }
+
+    public void refreshZone(ZoneInstanceImpl zone) {
+        for (Player player : new ArrayList<>(zone.getMembers())) {
+            Location location = player.getLocation();
+            World world = location.getWorld();
+            if (!isRetained(zone, world != null ? world.getUID() : null, location.getX(), location.getY(), location.getZ())) {
+                leave(player, zone);
+            }
+        }
+
+        World world = zone.getWorld();
+        if (world == null || !zone.isActive() || !zone.isAwake()) return;
+
+        double radiusSq = zone.getRadius() * zone.getRadius();
+        for (Player player : world.getPlayers()) {
+            if (find(player.getUniqueId(), zone) != null) continue;
+
+            Location location = player.getLocation();
+            if (zone.distanceSquared(location.getX(), location.getY(), location.getZ()) <= radiusSq) {
+                enter(player, zone);
+            }
+        }
+    }
+
+    public void removeZone(ZoneInstanceImpl zone) {
+        for (Player player : new ArrayList<>(zone.getMembers())) {
+            leave(player, zone);
+        }
+
+        World world = zone.getWorld();
+        if (world == null) return;
+
+        for (Player player : world.getPlayers()) {
+            if (find(player.getUniqueId(), zone) != null) {
+                leave(player, zone);
+            }
+        }
+    }
+
+    public void removePlayer(Player player) {
+        List<Member> current = members.remove(player.getUniqueId());
+        if (current == null) return;
+
+        for (Member member : current) {
+            if (!member.refused) {
+                detach(player, member.zone);
+            }
+        }
+        for (Member member : current) {
+            if (!member.refused) {
+                exit(player, member);
+            }
+        }
+    }
+
+    public void clear() {
+        for (List<Member> current : members.values()) {
+            for (Member member : current) {
+                member.zone.getMembers().clear();
+            }
+        }
+        members.clear();
+    }
+
+    private boolean isRetained(ZoneInstanceImpl zone, UUID worldId, double x, double y, double z) {
+        if (!zone.isActive() || !zone.isAwake() || worldId == null || !worldId.equals(zone.getWorldId())) {
+            return false;
+        }
+
+        double band = zone.getHysteresis();
+        double limit = zone.getRadius() + (band >= 0 ? band : hysteresis);
+        return zone.distanceSquared(x, y, z) <= limit * limit;
+    }
+
+    private Member find(UUID playerId, ZoneInstanceImpl zone) {
+        List<Member> current = members.get(playerId);
+        if (current == null) return null;
+
+        for (int i = 0; i < current.size(); i++) {
+            Member member = current.get(i);
+            if (member.zone == zone) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    private void leave(Player player, ZoneInstanceImpl zone) {
+        Member departed = null;
+        List<Member> current = members.get(player.getUniqueId());
+        if (current != null) {
+            for (int i = current.size() - 1; i >= 0; i--) {
+                Member member = current.get(i);
+                if (member.zone == zone) {
+                    removeAt(current, i);
+                    departed = member;
+                    break;
+                }
+            }
+            if (current.isEmpty()) {
+                members.remove(player.getUniqueId());
+            }
+        }
+
+        detach(player, zone);
+        if (departed != null && !departed.refused) {
+            exit(player, departed);
+        }
+    }
+
+    private void removeAt(List<Member> current, int index) {
+        int last = current.size() - 1;
+        current.set(index, current.get(last));
+        current.remove(last);
+    }
+
+    private void enter(Player player, ZoneInstanceImpl zone) {
+        boolean cancelled = fire(ZONE_ENTER_EVENT, player, zone);
+        if (!zone.isActive() || !zone.isAwake() || !player.isOnline() || find(player.getUniqueId(), zone) != null) {
+            return;
+        }
+
+        Member member = new Member(zone);
+        members.computeIfAbsent(player.getUniqueId(), id -> new ArrayList<>(4)).add(member);
+        if (cancelled) {
+            member.refused = true;
+            return;
+        }
+
+        zone.addMember(player);
+        manager.getProcessor().updateZoneSchedule(zone);
+
+        if (zone.getCrossfadeSeconds() > 0) {
+            SoundInstanceImpl ambience = manager.startZoneAmbience(player, zone);
+            if (ambience != null) {
+                member.ambienceId = ambience.getId();
+            }
+        }
+    }
+
+    private void detach(Player player, ZoneInstanceImpl zone) {
+        zone.removeMember(player);
+        manager.getProcessor().updateZoneSchedule(zone);
+    }
+
+    private void exit(Player player, Member member) {
+        ZoneInstanceImpl zone = member.zone;
+        fire(ZONE_EXIT_EVENT, player, zone);
+
+        if (member.ambienceId != null) {
+            manager.stopZoneAmbience(member.ambienceId, zone.getCrossfadeSeconds());
+        }
+    }
+
+    private boolean fire(String eventName, Player player, ZoneInstanceImpl zone) {
+        if (!manager.hasEventListeners(eventName)) return false;
+
+        AudioEvent event = new PlayerAudioEventImpl(
+                eventName,
+                player,
+                false,
+                zone.getSound(),
+                zone.getCustomSound().orElse(null),
+                zone.getCategory(),
+                zone.getVolume(),
+                zone.getPitch(),
+                zone.getCenter(),
+                System.currentTimeMillis(),
+                AudioEvent.Priority.NORMAL
+        );
+
+        manager.triggerEvent(event);
+        return event.isCancelled();
+    }
+
+    private static final class Member {
+        final ZoneInstanceImpl zone;
+        UUID ambienceId;
+        boolean refused;
+
+        Member(ZoneInstanceImpl zone) {
+            this.zone = zone;
+        }
+    }
+}
@@ -4,25 +4,36 @@ import com.meekdev.maudio.api.events.AudioEvent;
 import com.meekdev.maudio.api.events.AudioListener;
 import com.meekdev.maudio.api.events.AudioTrigger;
 import com.meekdev.maudio.internal.AudioManager;
-import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.Plugin;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
 
 public class EventBus {
+    private static final RegisteredListener[] NO_LISTENERS = new RegisteredListener[0];
+    private static final Comparator<RegisteredListener> BY_PRIORITY =
+            Comparator.comparingInt(listener -> listener.getPriority().getValue());
+
     private final AudioManager audioManager;
-    private final JavaPlugin plugin;
-    private final Map<String, List<RegisteredListener>> listeners = new ConcurrentHashMap<>();
+    private final Plugin plugin;
+    private final Object registrationLock = new Object();
     private final Map<Class<?>, Set<Method>> cachedMethods = new ConcurrentHashMap<>();
+    private volatile Map<String, RegisteredListener[]> listeners = Map.of();
+    private volatile ExecutorService asyncExecutor;
+    private boolean shutdown;
 
-    public EventBus(AudioManager audioManager, JavaPlugin plugin) {
+    public EventBus(AudioManager audioManager, Plugin plugin) {
         this.audioManager = audioManager;
         this.plugin = plugin;
     }
@@ -33,31 +44,89 @@ public class EventBus {
         Class<?> clazz = listener.getClass();
         Set<Method> methods = findAnnotatedMethods(clazz);
 
+        Map<String, List<RegisteredListener>> additions = new HashMap<>();
         for (Method method : methods) {
-            registerMethod(listener, method);
+            registerMethod(listener, method, additions);
+        }
+
+        if (additions.isEmpty()) return;
+
+        synchronized (registrationLock) {
+            Map<String, RegisteredListener[]> next = new HashMap<>(listeners);
+
+            for (Map.Entry<String, List<RegisteredListener>> entry : additions.entrySet()) {
+                RegisteredListener[] current = next.getOrDefault(entry.getKey(), NO_LISTENERS);
+                List<RegisteredListener> added = entry.getValue();
+
+                RegisteredListener[] updated = Arrays.copyOf(current, current.length + added.size());
+                for (int i = 0; i < added.size(); i++) {
+                    updated[current.length + i] = added.get(i);
+                }
+                Arrays.sort(updated, BY_PRIORITY);
+
+                next.put(entry.getKey(), updated);
+            }
+
+            listeners = Map.copyOf(next);
         }
     }
 
     public void unregisterListeners(Object listener) {
         if (listener == null) return;
 
-        for (List<RegisteredListener> listenerList : listeners.values()) {
-            listenerList.removeIf(registeredListener -> registeredListener.getOwner() == listener);
+        synchronized (registrationLock) {
+            Map<String, RegisteredListener[]> next = new HashMap<>();
+            boolean changed = false;
+
+            for (Map.Entry<String, RegisteredListener[]> entry : listeners.entrySet()) {
+                RegisteredListener[] current = entry.getValue();
+                RegisteredListener[] kept = new RegisteredListener[current.length];
+                int count = 0;
+
+                for (RegisteredListener registeredListener : current) {
+                    if (registeredListener.getOwner() != listener) {
+                        kept[count++] = registeredListener;
+                    }
+                }
+
+                if (count != current.length) {
+                    changed = true;
+                }
+                if (count > 0) {
+                    next.put(entry.getKey(), count == current.length ? current : Arrays.copyOf(kept, count));
+                }
+            }
+
+            if (changed) {
+                listeners = Map.copyOf(next);
+            }
         }
     }
 
+    public boolean hasListeners(String eventName) {
+        return eventName != null && listeners.containsKey(eventName);
+    }
+
     public boolean fireEvent(AudioEvent event) {
         if (event == null || event.isCancelled()) return false;
 
         String eventName = event.getName();
-        if (eventName == null || eventName.isEmpty()) return false;
+        if (eventName == null) return false;
 
-        List<RegisteredListener> eventListeners = listeners.get(eventName);
-        if (eventListeners == null || eventListeners.isEmpty()) return false;
+        RegisteredListener[] eventListeners = listeners.get(eventName);
+        if (eventListeners == null) return false;
 
         boolean handled = false;
+        boolean hasAsync = false;
+
+        for (int i = 0; i < eventListeners.length; i++) {
+            RegisteredListener registeredListener = eventListeners[i];
+
+            if (registeredListener.isAsync()) {
+                hasAsync = true;
+                continue;
+            }
 
-        for (RegisteredListener registeredListener : eventListeners) {
             if (event.isCancelled() && !registeredListener.isIgnoringCancelled()) {
                 continue;
             }
@@ -66,13 +135,70 @@ public class EventBus {
                 registeredListener.execute(event);
                 handled = true;
             } catch (Exception e) {
-                plugin.getLogger().severe("Error firing audio event: " + e.getMessage());
+                plugin.getLogger().log(Level.SEVERE, "Error firing audio event", e);
+            }
+        }
+
+        if (hasAsync) {
+            for (int i = 0; i < eventListeners.length; i++) {
+                RegisteredListener registeredListener = eventListeners[i];
+
+                if (!registeredListener.isAsync()
+                        || (event.isCancelled() && !registeredListener.isIgnoringCancelled())) {
+                    continue;
+                }
+
+                handled |= dispatchAsync(registeredListener, event);
             }
         }
 
         return handled;
     }
 
+    public void shutdown() {
+        synchronized (registrationLock) {
+            shutdown = true;
+            ExecutorService executor = asyncExecutor;
+            if (executor != null) {
+                asyncExecutor = null;
+                executor.shutdown();
+            }
+        }
+    }
+
+    private boolean dispatchAsync(RegisteredListener registeredListener, AudioEvent event) {
+        ExecutorService executor = getAsyncExecutor();
+        if (executor == null) return false;
+
+        AudioEvent retained = event.retain();
+        try {
+            executor.execute(() -> {
+                try {
+                    registeredListener.execute(retained);
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.SEVERE, "Error firing async audio event", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private ExecutorService getAsyncExecutor() {
+        ExecutorService executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (registrationLock) {
+                executor = asyncExecutor;
+                if (executor == null && !shutdown) {
+                    executor = Executors.newVirtualThreadPerTaskExecutor();
+                    asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     private Set<Method> findAnnotatedMethods(Class<?> clazz) {
         return cachedMethods.computeIfAbsent(clazz, cls -> {
             Set<Method> methods = ConcurrentHashMap.newKeySet();
@@ -93,15 +219,15 @@ public class EventBus {
         });
     }
 
-    private void registerMethod(Object instance, Method method) {
+    private void registerMethod(Object instance, Method method, Map<String, List<RegisteredListener>> additions) {
         if (method.isAnnotationPresent(AudioListener.class)) {
-            registerAudioListener(instance, method);
+            registerAudioListener(instance, method, additions);
         } else if (method.isAnnotationPresent(AudioTrigger.class)) {
-            registerAudioTrigger(instance, method);
+            registerAudioTrigger(instance, method, additions);
         }
     }
 
-    private void registerAudioListener(Object instance, Method method) {
+    private void registerAudioListener(Object instance, Method method, Map<String, List<RegisteredListener>> additions) {
         AudioListener annotation = method.getAnnotation(AudioListener.class);
         if (annotation == null) return;
 
@@ -111,65 +237,62 @@ public class EventBus {
             return;
         }
 
-        RegisteredListener registeredListener = new RegisteredListener(
-                instance,
-                method,
-                annotation.priority(),
-                annotation.ignoreCancelled()
-        );
+        RegisteredListener registeredListener = createListener(instance, method,
+                annotation.priority(), annotation.ignoreCancelled(), annotation.async());
+        if (registeredListener == null) return;
 
         for (String eventName : annotation.value()) {
             if (eventName == null || eventName.isEmpty()) continue;
 
-            List<RegisteredListener> eventListeners = listeners.computeIfAbsent(
-                    eventName, k -> new CopyOnWriteArrayList<>()
-            );
-
-            eventListeners.add(registeredListener);
-
-            eventListeners.sort(Comparator.comparingInt(
-                    listener -> listener.getPriority().getValue()
-            ));
+            additions.computeIfAbsent(eventName, k -> new ArrayList<>()).add(registeredListener);
         }
     }
 
-    private void registerAudioTrigger(Object instance, Method method) {
+    private void registerAudioTrigger(Object instance, Method method, Map<String, List<RegisteredListener>> additions) {
         AudioTrigger annotation = method.getAnnotation(AudioTrigger.class);
         if (annotation == null) return;
 
         String eventName = annotation.value();
         if (eventName == null || eventName.isEmpty()) return;
 
-        RegisteredListener registeredListener = new RegisteredListener(
-                instance,
-                method,
-                annotation.priority(),
-                annotation.ignoreCancelled()
-        );
+        Class<?>[] paramTypes = method.getParameterTypes();
+        if (paramTypes.length != 1 || !AudioEvent.class.isAssignableFrom(paramTypes[0])) {
+            plugin.getLogger().warning("Invalid AudioTrigger method signature: " + method);
+            return;
+        }
 
-        List<RegisteredListener> eventListeners = listeners.computeIfAbsent(
-                eventName, k -> new CopyOnWriteArrayList<>()
-        );
+        RegisteredListener registeredListener = createListener(instance, method,
+                annotation.priority(), annotation.ignoreCancelled(), annotation.async());
+        if (registeredListener == null) return;
 
-        eventListeners.add(registeredListener);
+        additions.computeIfAbsent(eventName, k -> new ArrayList<>()).add(registeredListener);
+    }
 
-        eventListeners.sort(Comparator.comparingInt(
-                listener -> listener.getPriority().getValue()
-        ));
+    private RegisteredListener createListener(Object instance, Method method, AudioEvent.Priority priority,
+                                              boolean ignoreCancelled, boolean async) {
+        try {
+            ListenerInvoker invoker = ListenerInvoker.bind(instance, method, plugin.getLogger());
+            return new RegisteredListener(instance, invoker, priority, ignoreCancelled, async);
+        } catch (IllegalAccessException | RuntimeException e) {
+            plugin.getLogger().warning("Could not bind audio listener " + method + ": " + e.getMessage());
+            return null;
+        }
     }
 
     private static class RegisteredListener {
         private final Object owner;
-        private final Method method;
+        private final ListenerInvoker invoker;
         private final AudioEvent.Priority priority;
         private final boolean ignoreCancelled;
+        private final boolean async;
 
-        RegisteredListener(Object owner, Method method, AudioEvent.Priority priority, boolean ignoreCancelled) {
+        RegisteredListener(Object owner, ListenerInvoker invoker, AudioEvent.Priority priority,
+                           boolean ignoreCancelled, boolean async) {
             this.owner = owner;
-            this.method = method;
+            this.invoker = invoker;
             this.priority = priority;
             this.ignoreCancelled = ignoreCancelled;
-            this.method.setAccessible(true);
+            this.async = async;
         }
 
         Object getOwner() {
@@ -184,8 +307,12 @@ public class EventBus {
             return ignoreCancelled;
         }
 
+        boolean isAsync() {
+            return async;
+        }
+
         void execute(AudioEvent event) throws Exception {
-            method.invoke(owner, event);
+            invoker.invoke(event);
         }
     }
-}
\ No newline at end of file
+}
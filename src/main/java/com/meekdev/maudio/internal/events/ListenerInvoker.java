@@ -0,0 +1,75 @@
+package com.meekdev.maudio.internal.events;
+
+import com.meekdev.maudio.api.events.AudioEvent;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@FunctionalInterface
+public interface ListenerInvoker {
+    void invoke(AudioEvent event) throws Exception;
+
+    static ListenerInvoker bind(Object owner, Method method, Logger logger) throws IllegalAccessException {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        Class<?> eventType = method.getParameterTypes()[0];
+
+        MethodHandle factory;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(method);
+            MethodType factoryType = isStatic
+                    ? MethodType.methodType(ListenerInvoker.class)
+                    : MethodType.methodType(ListenerInvoker.class, method.getDeclaringClass());
+
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "invoke",
+                    factoryType,
+                    MethodType.methodType(void.class, AudioEvent.class),
+                    target,
+                    MethodType.methodType(void.class, eventType)
+            );
+            factory = site.getTarget();
+        } catch (LambdaConversionException | ReflectiveOperationException | IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Falling back to reflective dispatch for audio listener " + method, e);
+            return bindHandle(owner, method, isStatic);
+        }
+
+        try {
+            return isStatic
+                    ? (ListenerInvoker) factory.invoke()
+                    : (ListenerInvoker) factory.invoke(owner);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Could not create invoker for " + method, t);
+        }
+    }
+
+    private static ListenerInvoker bindHandle(Object owner, Method method, boolean isStatic) throws IllegalAccessException {
+        method.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (!isStatic) {
+            handle = handle.bindTo(owner);
+        }
+
+        MethodHandle bound = handle.asType(MethodType.methodType(void.class, AudioEvent.class));
+        return event -> {
+            try {
+                bound.invokeExact(event);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+}
@@ -12,10 +12,10 @@ import java.util.Set;
 import java.util.UUID;
 
 public class PlayerAudioEventImpl implements AudioEvent {
-    private final UUID id;
+    private volatile UUID id;
     private final String name;
     private final Player sourcePlayer;
-    private final Set<UUID> targetPlayerIds;
+    private Set<UUID> targetPlayerIds;
     private final boolean global;
     private final Sound sound;
     private final String customSound;
@@ -31,27 +31,41 @@ public class PlayerAudioEventImpl implements AudioEvent {
                                 Sound sound, String customSound, SoundCategory category,
                                 float volume, float pitch, Location location,
                                 long timestamp, Priority priority) {
-        this.id = UUID.randomUUID();
+        this(null, name, sourcePlayer, global, sound, customSound, category, volume, pitch,
+                location != null ? location.clone() : null, timestamp, priority);
+    }
+
+    PlayerAudioEventImpl(UUID id, String name, Player sourcePlayer, boolean global,
+                         Sound sound, String customSound, SoundCategory category,
+                         float volume, float pitch, Location location,
+                         long timestamp, Priority priority) {
+        this.id = id;
         this.name = name;
         this.sourcePlayer = sourcePlayer;
-        this.targetPlayerIds = new HashSet<>();
-        if (sourcePlayer != null) {
-            this.targetPlayerIds.add(sourcePlayer.getUniqueId());
-        }
         this.global = global;
         this.sound = sound;
         this.customSound = customSound;
         this.category = category;
         this.volume = volume;
         this.pitch = pitch;
-        this.location = location != null ? location.clone() : null;
+        this.location = location;
         this.timestamp = timestamp;
         this.priority = priority;
     }
 
     @Override
     public UUID getId() {
-        return id;
+        UUID current = id;
+        if (current == null) {
+            synchronized (this) {
+                current = id;
+                if (current == null) {
+                    current = UUID.randomUUID();
+                    id = current;
+                }
+            }
+        }
+        return current;
     }
 
     @Override
@@ -61,13 +75,16 @@ public class PlayerAudioEventImpl implements AudioEvent {
 
     @Override
     public Set<UUID> getTargetPlayerIds() {
+        if (targetPlayerIds == null) {
+            return sourcePlayer != null ? Set.of(sourcePlayer.getUniqueId()) : Set.of();
+        }
         return Collections.unmodifiableSet(targetPlayerIds);
     }
 
     @Override
     public Set<Player> getTargetPlayers() {
         Set<Player> players = new HashSet<>();
-        for (UUID playerId : targetPlayerIds) {
+        for (UUID playerId : getTargetPlayerIds()) {
             Player player = org.bukkit.Bukkit.getPlayer(playerId);
             if (player != null && player.isOnline()) {
                 players.add(player);
@@ -150,13 +167,20 @@ public class PlayerAudioEventImpl implements AudioEvent {
 
     public void addTargetPlayer(Player player) {
         if (player != null) {
-            targetPlayerIds.add(player.getUniqueId());
+            mutableTargets().add(player.getUniqueId());
         }
     }
 
     public void removeTargetPlayer(Player player) {
         if (player != null) {
-            targetPlayerIds.remove(player.getUniqueId());
+            mutableTargets().remove(player.getUniqueId());
+        }
+    }
+
+    private Set<UUID> mutableTargets() {
+        if (targetPlayerIds == null) {
+            targetPlayerIds = new HashSet<>(getTargetPlayerIds());
         }
+        return targetPlayerIds;
     }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.meekdev.maudio.internal.events;
+
+import com.meekdev.maudio.api.events.AudioEvent;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Set;
+import java.util.UUID;
+
+public class ReusableAudioEvent implements AudioEvent {
+    private UUID id;
+    private String name;
+    private Player sourcePlayer;
+    private Sound sound;
+    private String customSound;
+    private SoundCategory category;
+    private float volume;
+    private float pitch;
+    private World world;
+    private double x;
+    private double y;
+    private double z;
+    private boolean positioned;
+    private boolean cancelled;
+    private long timestamp;
+    private Priority priority;
+    private boolean inUse;
+
+    public ReusableAudioEvent begin(String name, Player sourcePlayer, SoundCategory category, Priority priority) {
+        this.id = null;
+        this.name = name;
+        this.sourcePlayer = sourcePlayer;
+        this.sound = null;
+        this.customSound = null;
+        this.category = category;
+        this.volume = 1.0f;
+        this.pitch = 1.0f;
+        this.world = null;
+        this.positioned = false;
+        this.cancelled = false;
+        this.timestamp = System.currentTimeMillis();
+        this.priority = priority;
+        this.inUse = true;
+        return this;
+    }
+
+    public ReusableAudioEvent at(World world, double x, double y, double z) {
+        this.world = world;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.positioned = true;
+        return this;
+    }
+
+    public void end() {
+        this.sourcePlayer = null;
+        this.world = null;
+        this.inUse = false;
+    }
+
+    public boolean isInUse() {
+        return inUse;
+    }
+
+    @Override
+    public AudioEvent retain() {
+        PlayerAudioEventImpl copy = new PlayerAudioEventImpl(getId(), name, sourcePlayer, false, sound, customSound,
+                category, volume, pitch, getLocation(), timestamp, priority);
+        copy.setCancelled(cancelled);
+        return copy;
+    }
+
+    @Override
+    public UUID getId() {
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Set<UUID> getTargetPlayerIds() {
+        return sourcePlayer != null ? Set.of(sourcePlayer.getUniqueId()) : Set.of();
+    }
+
+    @Override
+    public Set<Player> getTargetPlayers() {
+        return sourcePlayer != null && sourcePlayer.isOnline() ? Set.of(sourcePlayer) : Set.of();
+    }
+
+    @Override
+    public boolean isGlobal() {
+        return false;
+    }
+
+    @Override
+    public Player getSourcePlayer() {
+        return sourcePlayer;
+    }
+
+    @Override
+    public Location getLocation() {
+        if (positioned) {
+            return new Location(world, x, y, z);
+        }
+        return sourcePlayer != null ? sourcePlayer.getLocation() : null;
+    }
+
+    @Override
+    public Sound getSound() {
+        return sound;
+    }
+
+    @Override
+    public String getCustomSound() {
+        return customSound;
+    }
+
+    @Override
+    public SoundCategory getCategory() {
+        return category;
+    }
+
+    @Override
+    public float getVolume() {
+        return volume;
+    }
+
+    @Override
+    public float getPitch() {
+        return pitch;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public Priority getPriority() {
+        return priority;
+    }
+}
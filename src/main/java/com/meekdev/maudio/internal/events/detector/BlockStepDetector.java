@@ -1,10 +1,10 @@
 package com.meekdev.maudio.internal.events.detector;
 
-import com.meekdev.maudio.api.effects.AudioEffect;
-import com.meekdev.maudio.api.events.AudioEvent;
-import com.meekdev.maudio.api.events.AudioTrigger;
+import com.meekdev.maudio.StepHandler;
 import com.meekdev.maudio.internal.AudioManager;
-import com.meekdev.maudio.internal.events.PlayerAudioEventImpl;
+import com.meekdev.maudio.internal.PlayerStateTable;
+import com.meekdev.maudio.internal.StepSoundTable;
+import com.meekdev.maudio.internal.TickClock;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
@@ -14,72 +14,90 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.Plugin;
 
-import java.lang.reflect.Method;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 public class BlockStepDetector implements Listener {
     private final AudioManager audioManager;
-    private final JavaPlugin plugin;
-    private final Map<UUID, Location> lastBlockLocations = new ConcurrentHashMap<>();
-    private final Map<Material, List<Method>> blockHandlers = new ConcurrentHashMap<>();
-    private final Map<UUID, Long> playerStepCooldowns = new ConcurrentHashMap<>();
-    private static final long STEP_COOLDOWN_MS = 10;
+    private final Plugin plugin;
+    private final TickClock clock;
+    private final PlayerStateTable playerStates;
+    private final StepSoundTable stepSounds;
+    private static final long STEP_COOLDOWN_TICKS = 1;
+    private static final String BLOCK_STEP_EVENT = "block_step";
 
-    public BlockStepDetector(AudioManager audioManager, JavaPlugin plugin) {
+    public BlockStepDetector(AudioManager audioManager, Plugin plugin) {
         this.audioManager = audioManager;
         this.plugin = plugin;
+        this.clock = audioManager.getProcessor().getClock();
+        this.playerStates = audioManager.getPlayerStates();
+        this.stepSounds = audioManager.getStepSounds();
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
+        if (stepSounds.isEmpty() && !audioManager.hasEventListeners(BLOCK_STEP_EVENT)) {
+            return;
+        }
+
         Player player = event.getPlayer();
+        int slot = playerStates.slotOf(player);
+        long now = clock.now();
 
-        if (!shouldProcessStep(player)) {
+        if (!shouldProcessStep(slot, now)) {
             return;
         }
 
         Location to = event.getTo();
         if (to == null) return;
 
-        Location lastLoc = lastBlockLocations.get(player.getUniqueId());
-        if (lastLoc != null && isSameBlock(lastLoc, to)) {
+        int x = to.getBlockX();
+        int y = to.getBlockY();
+        int z = to.getBlockZ();
+        long blockKey = PlayerStateTable.packBlock(x, y, z);
+        if (playerStates.getLastBlock(slot) == blockKey) {
             return;
         }
 
-        Block block = to.getBlock().getRelative(0, -1, 0);
-        if (block.getType() == Material.AIR) {
+        World world = to.getWorld();
+        if (world == null) return;
+
+        Material type = world.getType(x, y - 1, z);
+        if (type == Material.AIR) {
             return;
         }
 
-        lastBlockLocations.put(player.getUniqueId(), to.clone());
-        playerStepCooldowns.put(player.getUniqueId(), System.currentTimeMillis());
+        playerStates.setLastBlock(slot, blockKey);
+        playerStates.setStepCooldownTick(slot, now);
 
-        AudioEffect effect = audioManager.createBlockStepEffect(player, block);
-        if (effect != null) {
-            audioManager.playEffect(effect);
+        StepHandler[] handlers = stepSounds.get(type);
+        boolean listening = audioManager.hasEventListeners(BLOCK_STEP_EVENT);
+        if (handlers == null && !listening) {
+            return;
         }
-    }
 
-    private boolean shouldProcessStep(Player player) {
-        UUID playerId = player.getUniqueId();
-        long now = System.currentTimeMillis();
-        Long lastStep = playerStepCooldowns.get(playerId);
+        if (handlers != null) {
+            runHandlers(handlers, player, world.getBlockAt(x, y - 1, z));
+        }
 
-        if (lastStep == null) {
-            return true;
+        if (listening) {
+            audioManager.fireBlockStepEvent(player, world, x, y - 1, z);
         }
+    }
 
-        return now - lastStep >= STEP_COOLDOWN_MS;
+    private void runHandlers(StepHandler[] handlers, Player player, Block block) {
+        for (StepHandler handler : handlers) {
+            try {
+                handler.onStep(player, block);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Error in step handler", e);
+            }
+        }
     }
 
-    private boolean isSameBlock(Location a, Location b) {
-        return a.getBlockX() == b.getBlockX() &&
-                a.getBlockY() == b.getBlockY() &&
-                a.getBlockZ() == b.getBlockZ();
+    private boolean shouldProcessStep(int slot, long now) {
+        long lastStep = playerStates.getStepCooldownTick(slot);
+        return lastStep == PlayerStateTable.NO_TICK || now - lastStep >= STEP_COOLDOWN_TICKS;
     }
-}
\ No newline at end of file
+}
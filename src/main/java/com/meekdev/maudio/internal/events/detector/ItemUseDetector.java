@@ -1,7 +1,8 @@
 package com.meekdev.maudio.internal.events.detector;
 
-import com.meekdev.maudio.api.effects.AudioEffect;
 import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.PlayerStateTable;
+import com.meekdev.maudio.internal.TickClock;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -10,21 +11,20 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.plugin.java.JavaPlugin;
-
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.plugin.Plugin;
 
 public class ItemUseDetector implements Listener {
     private final AudioManager audioManager;
-    private final JavaPlugin plugin;
-    private final Map<UUID, Long> interactCooldowns = new ConcurrentHashMap<>();
-    private static final long INTERACT_COOLDOWN_MS = 250;
+    private final Plugin plugin;
+    private final TickClock clock;
+    private final PlayerStateTable playerStates;
+    private static final long INTERACT_COOLDOWN_TICKS = 5;
 
-    public ItemUseDetector(AudioManager audioManager, JavaPlugin plugin) {
+    public ItemUseDetector(AudioManager audioManager, Plugin plugin) {
         this.audioManager = audioManager;
         this.plugin = plugin;
+        this.clock = audioManager.getProcessor().getClock();
+        this.playerStates = audioManager.getPlayerStates();
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -37,27 +37,19 @@ public class ItemUseDetector implements Listener {
             return;
         }
 
-        if (!shouldProcessInteract(player)) {
+        int slot = playerStates.slotOf(player);
+        long now = clock.now();
+        if (!shouldProcessInteract(slot, now)) {
             return;
         }
 
-        interactCooldowns.put(player.getUniqueId(), System.currentTimeMillis());
+        playerStates.setInteractCooldownTick(slot, now);
 
-        AudioEffect effect = audioManager.createItemUseEffect(player, item, action);
-        if (effect != null) {
-            audioManager.playEffect(effect);
-        }
+        audioManager.fireItemUseEvent(player, action);
     }
 
-    private boolean shouldProcessInteract(Player player) {
-        UUID playerId = player.getUniqueId();
-        long now = System.currentTimeMillis();
-        Long lastInteract = interactCooldowns.get(playerId);
-
-        if (lastInteract == null) {
-            return true;
-        }
-
-        return now - lastInteract >= INTERACT_COOLDOWN_MS;
+    private boolean shouldProcessInteract(int slot, long now) {
+        long lastInteract = playerStates.getInteractCooldownTick(slot);
+        return lastInteract == PlayerStateTable.NO_TICK || now - lastInteract >= INTERACT_COOLDOWN_TICKS;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.meekdev.maudio.internal.model;
+
+import com.meekdev.maudio.SequenceInstance;
+import com.meekdev.maudio.api.effects.AudioEffect;
+import com.meekdev.maudio.api.effects.AudioSequence;
+import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.TickClock;
+import com.meekdev.maudio.internal.processor.TimingWheel;
+
+import java.util.List;
+import java.util.UUID;
+
+public class SequenceInstanceImpl implements SequenceInstance {
+    private static final byte RUNNING = 0;
+    private static final byte PAUSED = 1;
+    private static final byte FINISHED = 2;
+
+    private final UUID id;
+    private final AudioSequence sequence;
+    private final List<AudioEffect> effects;
+    private final AudioManager manager;
+    private final TimingWheel.Entry<SequenceInstanceImpl> timer = new TimingWheel.Entry<>(this);
+
+    private volatile int position;
+    private volatile byte state = RUNNING;
+    private long remainingTicks;
+
+    public SequenceInstanceImpl(UUID id, AudioSequence sequence, AudioManager manager) {
+        this.id = id;
+        this.sequence = sequence;
+        this.effects = sequence.getEffects();
+        this.manager = manager;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public AudioSequence getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public int getLength() {
+        return effects.size();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return state == RUNNING;
+    }
+
+    @Override
+    public boolean isPaused() {
+        return state == PAUSED;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return state == FINISHED;
+    }
+
+    @Override
+    public SequenceInstance pause() {
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(this::pause);
+            return this;
+        }
+
+        if (state != RUNNING) return this;
+
+        remainingTicks = manager.getProcessor().cancelSequence(this);
+        state = PAUSED;
+        return this;
+    }
+
+    @Override
+    public SequenceInstance resume() {
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(this::resume);
+            return this;
+        }
+
+        if (state != PAUSED) return this;
+
+        state = RUNNING;
+        manager.getProcessor().scheduleSequence(this, remainingTicks);
+        return this;
+    }
+
+    @Override
+    public SequenceInstance seek(int position) {
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(() -> seek(position));
+            return this;
+        }
+
+        if (state == FINISHED) return this;
+
+        this.position = Math.max(0, Math.min(effects.size(), position));
+        remainingTicks = 1;
+        if (state == RUNNING) {
+            manager.getProcessor().scheduleSequence(this, 1);
+        }
+        return this;
+    }
+
+    @Override
+    public SequenceInstance cancel() {
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(this::cancel);
+            return this;
+        }
+
+        if (state == FINISHED) return this;
+
+        manager.getProcessor().cancelSequence(this);
+        finish();
+        return this;
+    }
+
+    public void step() {
+        if (state != RUNNING) return;
+
+        int index = position;
+        if (index >= effects.size()) {
+            finish();
+            return;
+        }
+
+        AudioEffect effect = effects.get(index);
+        position = index + 1;
+        manager.playEffect(effect);
+
+        if (state != RUNNING) return;
+
+        manager.getProcessor().scheduleSequence(this, calculateDelayTicks(effect));
+    }
+
+    public void complete() {
+        position = effects.size();
+        finish();
+    }
+
+    public TimingWheel.Entry<SequenceInstanceImpl> getTimer() {
+        return timer;
+    }
+
+    private void finish() {
+        state = FINISHED;
+        manager.removeSequenceInstance(this);
+    }
+
+    private static long calculateDelayTicks(AudioEffect effect) {
+        float duration = effect.getDuration() > 0 ? effect.getDuration() : 1.0f;
+        float delay = duration + effect.getFadeIn() + effect.getFadeOut();
+        return TickClock.toTicks(delay);
+    }
+}
@@ -1,6 +1,10 @@
 package com.meekdev.maudio.internal.model;
 
+import com.meekdev.maudio.FadeCurve;
 import com.meekdev.maudio.SoundInstance;
+import com.meekdev.maudio.SoundPriority;
+import com.meekdev.maudio.internal.TickClock;
+import com.meekdev.maudio.internal.processor.TimingWheel;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
@@ -31,15 +35,26 @@ public class SoundInstanceImpl implements SoundInstance {
     private Location location;
     private boolean looping;
     private int intervalTicks;
-    private long lastPlayTime;
-    private int currentTick;
     private State state = State.CREATED;
     private UUID worldId;
 
     private float targetVolume;
     private float startVolume;
-    private float fadeTime;
-    private long fadeStartTime;
+    private long fadeTicks;
+    private long fadeElapsedTicks;
+    private FadeCurve fadeCurve = FadeCurve.LINEAR;
+    private FadeCurve defaultFadeCurve = FadeCurve.LINEAR;
+    private boolean fadePending;
+    private int sentVolumeStep = -1;
+
+    private int priority;
+    private long sequence;
+
+    private int liveIndex = -1;
+    private int worldIndex = -1;
+    private UUID indexedWorldId;
+    private int poolSlot = -1;
+    private final TimingWheel.Entry<SoundInstanceImpl> loopTimer = new TimingWheel.Entry<>(this);
 
     public SoundInstanceImpl(UUID id, Sound sound, String customSound, SoundCategory category,
                              float volume, float pitch, Player player) {
@@ -66,9 +81,10 @@ public class SoundInstanceImpl implements SoundInstance {
         this.location = location;
         this.looping = looping;
         this.intervalTicks = Math.max(1, intervalTicks);
-        this.lastPlayTime = System.currentTimeMillis();
-        this.currentTick = 0;
         this.state = State.CREATED;
+        this.priority = SoundPriority.forCategory(category);
+        this.fadePending = false;
+        this.sentVolumeStep = -1;
 
         if (location != null && location.getWorld() != null) {
             this.worldId = location.getWorld().getUID();
@@ -156,6 +172,17 @@ public class SoundInstanceImpl implements SoundInstance {
         return this;
     }
 
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public SoundInstance setPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
     @Override
     public SoundInstance play() {
         if (state == State.STOPPED) return this;
@@ -175,7 +202,6 @@ public class SoundInstanceImpl implements SoundInstance {
         }
 
         setState(State.PLAYING);
-        lastPlayTime = System.currentTimeMillis();
         return this;
     }
 
@@ -203,11 +229,17 @@ public class SoundInstanceImpl implements SoundInstance {
 
     @Override
     public SoundInstance fadeIn(float seconds) {
+        return fadeIn(seconds, defaultFadeCurve);
+    }
+
+    @Override
+    public SoundInstance fadeIn(float seconds, FadeCurve curve) {
         if (seconds <= 0 || state == State.STOPPED) return this;
 
+        this.fadeCurve = curve != null ? curve : defaultFadeCurve;
         this.startVolume = 0.01f;
-        this.fadeTime = seconds;
-        this.fadeStartTime = System.currentTimeMillis();
+        this.fadeTicks = TickClock.toTicks(seconds);
+        this.fadeElapsedTicks = 0;
         this.setState(State.FADING_IN);
 
         if (player != null && player.isOnline()) {
@@ -229,14 +261,20 @@ public class SoundInstanceImpl implements SoundInstance {
 
     @Override
     public SoundInstance fadeOut(float seconds) {
+        return fadeOut(seconds, defaultFadeCurve);
+    }
+
+    @Override
+    public SoundInstance fadeOut(float seconds, FadeCurve curve) {
         if (seconds <= 0 || state == State.STOPPED) {
             stop();
             return this;
         }
 
+        this.fadeCurve = curve != null ? curve : defaultFadeCurve;
         this.startVolume = this.volume;
-        this.fadeTime = seconds;
-        this.fadeStartTime = System.currentTimeMillis();
+        this.fadeTicks = TickClock.toTicks(seconds);
+        this.fadeElapsedTicks = 0;
         this.setState(State.FADING_OUT);
 
         return this;
@@ -252,6 +290,58 @@ public class SoundInstanceImpl implements SoundInstance {
         return Optional.ofNullable(location);
     }
 
+    public Player getPlayerOrNull() {
+        return player;
+    }
+
+    public Location getLocationOrNull() {
+        return location;
+    }
+
+    public String getCustomSoundOrNull() {
+        return customSound;
+    }
+
+    public int getLiveIndex() {
+        return liveIndex;
+    }
+
+    public void setLiveIndex(int liveIndex) {
+        this.liveIndex = liveIndex;
+    }
+
+    public int getWorldIndex() {
+        return worldIndex;
+    }
+
+    public void setWorldIndex(int worldIndex) {
+        this.worldIndex = worldIndex;
+    }
+
+    public UUID getIndexedWorldId() {
+        return indexedWorldId;
+    }
+
+    public void setIndexedWorldId(UUID indexedWorldId) {
+        this.indexedWorldId = indexedWorldId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public int getPoolSlot() {
+        return poolSlot;
+    }
+
+    public void setPoolSlot(int poolSlot) {
+        this.poolSlot = poolSlot;
+    }
+
     public void setState(State state) {
         this.state = state;
     }
@@ -268,14 +358,28 @@ public class SoundInstanceImpl implements SoundInstance {
         this.intervalTicks = Math.max(1, intervalTicks);
     }
 
-    public void incrementTick() {
-        if (!looping || state != State.PLAYING) return;
+    public void setDefaultFadeCurve(FadeCurve defaultFadeCurve) {
+        this.defaultFadeCurve = defaultFadeCurve;
+    }
+
+    public boolean isFadePending() {
+        return fadePending;
+    }
 
-        currentTick++;
-        if (currentTick >= intervalTicks) {
-            currentTick = 0;
-            play();
-        }
+    public void setFadePending(boolean fadePending) {
+        this.fadePending = fadePending;
+    }
+
+    public int getSentVolumeStep() {
+        return sentVolumeStep;
+    }
+
+    public void setSentVolumeStep(int sentVolumeStep) {
+        this.sentVolumeStep = sentVolumeStep;
+    }
+
+    public TimingWheel.Entry<SoundInstanceImpl> getLoopTimer() {
+        return loopTimer;
     }
 
     public float updateFading() {
@@ -283,17 +387,17 @@ public class SoundInstanceImpl implements SoundInstance {
             return volume;
         }
 
-        float elapsed = (System.currentTimeMillis() - fadeStartTime) / 1000f;
-        float progress = Math.min(1.0f, elapsed / fadeTime);
+        fadeElapsedTicks++;
+        float progress = Math.min(1.0f, (float) fadeElapsedTicks / fadeTicks);
 
         if (state == State.FADING_IN) {
-            volume = startVolume + (targetVolume - startVolume) * progress;
+            volume = startVolume + (targetVolume - startVolume) * fadeCurve.apply(progress);
             if (progress >= 1.0f) {
                 volume = targetVolume;
                 setState(State.PLAYING);
             }
         } else {
-            volume = startVolume * (1.0f - progress);
+            volume = startVolume * fadeCurve.apply(1.0f - progress);
             if (progress >= 1.0f) {
                 stop();
             }
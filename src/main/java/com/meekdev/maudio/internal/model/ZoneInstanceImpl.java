@@ -2,16 +2,18 @@ package com.meekdev.maudio.internal.model;
 
 import com.meekdev.maudio.ZoneInstance;
 import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.processor.TimingWheel;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ZoneInstanceImpl implements ZoneInstance {
     private final UUID id;
@@ -25,8 +27,13 @@ public class ZoneInstanceImpl implements ZoneInstance {
     private int intervalTicks;
     private boolean active;
     private final AudioManager manager;
-    private int currentTick;
+    private boolean firing;
+    private final TimingWheel.Entry<ZoneInstanceImpl> timer = new TimingWheel.Entry<>(this);
     private final UUID worldId;
+    private final Set<Player> members = ConcurrentHashMap.newKeySet();
+    private float crossfadeSeconds;
+    private double hysteresis = -1;
+    private int loadedChunks;
 
     public ZoneInstanceImpl(UUID id, Location center, double radius, Sound sound, String customSound,
                             SoundCategory category, float volume, float pitch, int intervalTicks,
@@ -108,71 +115,155 @@ public class ZoneInstanceImpl implements ZoneInstance {
 
     @Override
     public ZoneInstance setRadius(double radius) {
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(() -> setRadius(radius));
+            return this;
+        }
+
         this.radius = radius;
         manager.getSpatialManager().updateZone(this);
+        manager.refreshZone(this);
         return this;
     }
 
     @Override
     public ZoneInstance setIntervalTicks(int ticks) {
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(() -> setIntervalTicks(ticks));
+            return this;
+        }
+
         this.intervalTicks = Math.max(1, ticks);
         return this;
     }
 
     @Override
     public ZoneInstance activate() {
-        this.active = true;
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(this::activate);
+            return this;
+        }
+
+        if (!active) {
+            this.active = true;
+            manager.refreshZone(this);
+        }
         return this;
     }
 
     @Override
     public ZoneInstance deactivate() {
-        this.active = false;
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(this::deactivate);
+            return this;
+        }
+
+        if (active) {
+            this.active = false;
+            manager.refreshZone(this);
+        }
         return this;
     }
 
     @Override
-    public Set<Player> getPlayersInZone() {
-        if (!active || worldId == null) {
-            return Set.of();
+    public float getCrossfadeSeconds() {
+        return crossfadeSeconds;
+    }
+
+    @Override
+    public ZoneInstance setCrossfadeSeconds(float seconds) {
+        this.crossfadeSeconds = Math.max(0, seconds);
+        return this;
+    }
+
+    @Override
+    public double getHysteresis() {
+        return hysteresis;
+    }
+
+    @Override
+    public ZoneInstance setHysteresis(double blocks) {
+        if (!manager.isMainThread()) {
+            manager.runOnMainThread(() -> setHysteresis(blocks));
+            return this;
         }
 
-        World world = center.getWorld();
-        if (world == null) {
+        this.hysteresis = blocks < 0 ? -1 : blocks;
+        manager.refreshZone(this);
+        return this;
+    }
+
+    @Override
+    public Set<Player> getPlayersInZone() {
+        if (!active) {
             return Set.of();
         }
 
-        double radiusSq = radius * radius;
-        return world.getPlayers().stream()
-                .filter(player -> player.getLocation().distanceSquared(center) <= radiusSq)
-                .collect(Collectors.toSet());
+        return Collections.unmodifiableSet(members);
     }
 
     @Override
     public boolean isPlayerInZone(Player player) {
-        if (!active || player == null || !player.isOnline() || worldId == null) {
-            return false;
-        }
+        return active && player != null && members.contains(player);
+    }
 
-        World playerWorld = player.getWorld();
-        if (playerWorld == null || !playerWorld.getUID().equals(worldId)) {
-            return false;
-        }
+    public Set<Player> getMembers() {
+        return members;
+    }
 
-        return player.getLocation().distanceSquared(center) <= (radius * radius);
+    public boolean addMember(Player player) {
+        return members.add(player);
     }
 
-    public void incrementTick() {
-        if (!active) return;
+    public boolean removeMember(Player player) {
+        return members.remove(player);
+    }
 
-        currentTick++;
-        if (currentTick >= intervalTicks) {
-            currentTick = 0;
-        }
+    public double distanceSquared(double x, double y, double z) {
+        double dx = center.getX() - x;
+        double dy = center.getY() - y;
+        double dz = center.getZ() - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    public boolean isAwake() {
+        return loadedChunks > 0;
+    }
+
+    public int getLoadedChunks() {
+        return loadedChunks;
+    }
+
+    public void setLoadedChunks(int loadedChunks) {
+        this.loadedChunks = Math.max(0, loadedChunks);
+    }
+
+    public World getWorld() {
+        return center.getWorld();
     }
 
     public boolean shouldPlayThisTick() {
-        return active && currentTick == 0;
+        return active && firing;
+    }
+
+    public void setFiring(boolean firing) {
+        this.firing = firing;
+    }
+
+    public TimingWheel.Entry<ZoneInstanceImpl> getTimer() {
+        return timer;
+    }
+
+    public double getCenterX() {
+        return center.getX();
+    }
+
+    public double getCenterY() {
+        return center.getY();
+    }
+
+    public double getCenterZ() {
+        return center.getZ();
     }
 
     public UUID getWorldId() {
@@ -1,24 +1,48 @@
 package com.meekdev.maudio.internal.processor;
 
+import com.meekdev.maudio.MaudioOptions;
 import com.meekdev.maudio.internal.AudioManager;
-import com.meekdev.maudio.internal.SpatialManager;
+import com.meekdev.maudio.internal.LiveSoundList;
+import com.meekdev.maudio.internal.TickClock;
+import com.meekdev.maudio.internal.model.SequenceInstanceImpl;
 import com.meekdev.maudio.internal.model.SoundInstanceImpl;
 import com.meekdev.maudio.internal.model.ZoneInstanceImpl;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
-import java.util.Iterator;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 
 public class AudioProcessor implements Runnable {
     private final AudioManager manager;
     private final AtomicBoolean isRunning = new AtomicBoolean(false);
+    private final FadeEngine fadeEngine;
+    private final SoundDispatcher dispatcher;
+    private final TickClock clock = new TickClock();
+    private final TimingWheel<SoundInstanceImpl> loopWheel = new TimingWheel<>();
+    private final TimingWheel<ZoneInstanceImpl> zoneWheel = new TimingWheel<>();
+    private final TimingWheel<SequenceInstanceImpl> sequenceWheel = new TimingWheel<>();
+    private final List<ZoneInstanceImpl> firingZones = new ArrayList<>();
+    private final Consumer<SoundInstanceImpl> loopDue = this::onLoopDue;
+    private final Consumer<ZoneInstanceImpl> zoneDue = this::onZoneDue;
+    private final Consumer<SequenceInstanceImpl> sequenceDue = SequenceInstanceImpl::step;
     private int spatialCleanupCounter = 0;
+    private int poolMaintenanceCounter = 0;
     private static final int SPATIAL_CLEANUP_INTERVAL = 100;
+    private static final int POOL_MAINTENANCE_INTERVAL = 20;
 
     public AudioProcessor(AudioManager manager) {
+        this(manager, MaudioOptions.defaults());
+    }
+
+    public AudioProcessor(AudioManager manager, MaudioOptions options) {
         this.manager = manager;
+        this.fadeEngine = new FadeEngine(manager, options.getFadeUpdateTicks());
+        this.dispatcher = new SoundDispatcher(clock, manager.getPlayerStates(),
+                options.getPlayerSoundBudget(), options.getChunkSoundBudget());
     }
 
     @Override
@@ -27,103 +51,161 @@ public class AudioProcessor implements Runnable {
         isRunning.set(true);
 
         try {
+            clock.advance();
+            manager.runMainThreadActions();
             processSounds();
+            loopWheel.advance(loopDue);
+            zoneWheel.advance(zoneDue);
+            sequenceWheel.advance(sequenceDue);
             processZones();
+            manager.runPendingEffects();
+            dispatcher.flush();
 
             spatialCleanupCounter++;
             if (spatialCleanupCounter >= SPATIAL_CLEANUP_INTERVAL) {
                 spatialCleanupCounter = 0;
                 manager.getSpatialManager().cleanup();
             }
+
+            poolMaintenanceCounter++;
+            if (poolMaintenanceCounter >= POOL_MAINTENANCE_INTERVAL) {
+                poolMaintenanceCounter = 0;
+                manager.maintainSoundPool(POOL_MAINTENANCE_INTERVAL);
+            }
         } catch (Exception e) {
-            manager.getPlugin().getLogger().severe("Error in audio processing: " + e.getMessage());
-            e.printStackTrace();
+            manager.getPlugin().getLogger().log(Level.SEVERE, "Error in audio processing", e);
         } finally {
             isRunning.set(false);
         }
     }
 
     private void processSounds() {
-        Set<SoundInstanceImpl> sounds = manager.getAllSounds();
+        LiveSoundList sounds = manager.getLiveSounds();
 
-        for (Iterator<SoundInstanceImpl> it = sounds.iterator(); it.hasNext();) {
-            SoundInstanceImpl sound = it.next();
+        for (int i = sounds.size() - 1; i >= 0; i--) {
+            SoundInstanceImpl sound = sounds.get(i);
 
             if (sound.getState() == SoundInstanceImpl.State.STOPPED) {
-                manager.removeSoundInstance(sound.getId());
+                manager.removeSoundInstance(sound);
                 continue;
             }
 
-            if (sound.isFading()) {
-                updateFadingSound(sound);
+            if (sound.getPlayerOrNull() == null && sound.getWorldId() != sound.getIndexedWorldId()) {
+                manager.updateWorldIndex(sound);
             }
 
-            if (sound.isLooping() && sound.isPlaying()) {
-                sound.incrementTick();
+            if (sound.isFading()) {
+                sound.updateFading();
+                if (sound.getState() != SoundInstanceImpl.State.STOPPED) {
+                    fadeEngine.submit(sound);
+                }
             }
         }
+
+        fadeEngine.flush();
+    }
+
+    public TickClock getClock() {
+        return clock;
     }
 
-    private void updateFadingSound(SoundInstanceImpl sound) {
-        float newVolume = sound.updateFading();
+    public void scheduleLoop(SoundInstanceImpl sound) {
+        loopWheel.schedule(sound.getLoopTimer(), sound.getIntervalTicks());
+    }
 
-        if (sound.isFading()) {
-            Player player = sound.getPlayer().orElse(null);
-            Location location = sound.getLocation().orElse(null);
+    public void cancelLoop(SoundInstanceImpl sound) {
+        loopWheel.cancel(sound.getLoopTimer());
+    }
 
-            if (player != null && player.isOnline()) {
-                playSoundToPlayer(player, sound, newVolume);
-            } else if (location != null && location.getWorld() != null) {
-                playLocationSound(location, sound, newVolume);
-            }
+    public void updateZoneSchedule(ZoneInstanceImpl zone) {
+        if (!isZoneLive(zone)) {
+            zoneWheel.cancel(zone.getTimer());
+        } else if (!zone.getTimer().isScheduled()) {
+            zoneWheel.schedule(zone.getTimer(), zone.getIntervalTicks());
         }
     }
 
-    private void playSoundToPlayer(Player player, SoundInstanceImpl sound, float volume) {
-        float adjustedVolume = manager.calculatePlayerVolume(player, volume);
+    public void cancelZone(ZoneInstanceImpl zone) {
+        zoneWheel.cancel(zone.getTimer());
+    }
 
-        if (adjustedVolume < 0.01f) return;
+    public void scheduleSequence(SequenceInstanceImpl sequence, long delayTicks) {
+        sequenceWheel.schedule(sequence.getTimer(), delayTicks);
+    }
 
-        if (sound.getSound() != null) {
-            player.playSound(player.getLocation(), sound.getSound(), sound.getCategory(), adjustedVolume, sound.getPitch());
-        } else if (sound.getCustomSound().isPresent()) {
-            player.playSound(player.getLocation(), sound.getCustomSound().get(), sound.getCategory(), adjustedVolume, sound.getPitch());
-        }
+    public long cancelSequence(SequenceInstanceImpl sequence) {
+        TimingWheel.Entry<SequenceInstanceImpl> timer = sequence.getTimer();
+        if (!timer.isScheduled()) return 0;
+
+        long remaining = timer.getDeadline() - sequenceWheel.getTick();
+        sequenceWheel.cancel(timer);
+        return remaining;
     }
 
-    private void playLocationSound(Location location, SoundInstanceImpl sound, float volume) {
-        float adjustedVolume = manager.calculateVolume(volume);
+    public SoundDispatcher getDispatcher() {
+        return dispatcher;
+    }
 
-        if (adjustedVolume < 0.01f) return;
+    public void clearSchedules() {
+        fadeEngine.clear();
+        dispatcher.clear();
+        loopWheel.clear();
+        zoneWheel.clear();
+        sequenceWheel.clear();
+    }
+
+    private void onLoopDue(SoundInstanceImpl sound) {
+        if (!sound.isLooping() || sound.getState() == SoundInstanceImpl.State.STOPPED) return;
 
-        if (sound.getSound() != null) {
-            location.getWorld().playSound(location, sound.getSound(), sound.getCategory(), adjustedVolume, sound.getPitch());
-        } else if (sound.getCustomSound().isPresent()) {
-            location.getWorld().playSound(location, sound.getCustomSound().get(), sound.getCategory(), adjustedVolume, sound.getPitch());
+        if (sound.getState() == SoundInstanceImpl.State.PLAYING) {
+            sound.play();
         }
+
+        loopWheel.schedule(sound.getLoopTimer(), sound.getIntervalTicks());
     }
 
-    private void processZones() {
-        SpatialManager spatialManager = manager.getSpatialManager();
-        Set<ZoneInstanceImpl> zones = manager.getAllZones();
+    private boolean isZoneLive(ZoneInstanceImpl zone) {
+        return zone.isActive() && zone.isAwake() && !zone.getMembers().isEmpty();
+    }
 
-        for (ZoneInstanceImpl zone : zones) {
-            if (!zone.isActive()) continue;
+    private void onZoneDue(ZoneInstanceImpl zone) {
+        if (!isZoneLive(zone)) return;
 
-            zone.incrementTick();
+        if (zone.getCrossfadeSeconds() <= 0) {
+            zone.setFiring(true);
+            firingZones.add(zone);
+        }
 
-            if (!zone.shouldPlayThisTick()) {
-                continue;
+        zoneWheel.schedule(zone.getTimer(), zone.getIntervalTicks());
+    }
+
+    private void processZones() {
+        if (firingZones.isEmpty()) {
+            return;
+        }
+
+        try {
+            playFiringZones();
+        } finally {
+            for (int i = 0; i < firingZones.size(); i++) {
+                firingZones.get(i).setFiring(false);
             }
+            firingZones.clear();
+        }
+    }
 
-            for (Player player : manager.getPlugin().getServer().getOnlinePlayers()) {
-                if (player.getWorld().getUID().equals(zone.getWorldId())) {
-                    double distanceSq = spatialManager.getCachedDistanceSquared(player, zone);
-                    double radiusSq = zone.getRadius() * zone.getRadius();
+    private void playFiringZones() {
+        for (int z = 0; z < firingZones.size(); z++) {
+            ZoneInstanceImpl zone = firingZones.get(z);
+            if (!zone.shouldPlayThisTick()) continue;
 
-                    if (distanceSq <= radiusSq) {
-                        playZoneSound(player, zone, calculateDistanceVolume(zone, distanceSq, radiusSq));
-                    }
+            double radiusSq = zone.getRadius() * zone.getRadius();
+            for (Player player : zone.getMembers()) {
+                Location location = player.getLocation();
+                double distanceSq = zone.distanceSquared(location.getX(), location.getY(), location.getZ());
+
+                if (distanceSq <= radiusSq) {
+                    playZoneSound(player, zone, calculateDistanceVolume(zone, distanceSq, radiusSq));
                 }
             }
         }
@@ -145,10 +227,7 @@ public class AudioProcessor implements Runnable {
 
         if (adjustedVolume < 0.01f) return;
 
-        if (zone.getSound() != null) {
-            player.playSound(player.getLocation(), zone.getSound(), zone.getCategory(), adjustedVolume, zone.getPitch());
-        } else if (zone.getCustomSound().isPresent()) {
-            player.playSound(player.getLocation(), zone.getCustomSound().get(), zone.getCategory(), adjustedVolume, zone.getPitch());
-        }
+        dispatcher.submit(player, zone.getSound(), zone.getCustomSound().orElse(null),
+                zone.getCategory(), adjustedVolume, zone.getPitch());
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.meekdev.maudio.internal.processor;
+
+import com.meekdev.maudio.internal.AudioManager;
+import com.meekdev.maudio.internal.model.SoundInstanceImpl;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class FadeEngine {
+    private static final int VOLUME_STEPS = 64;
+    private static final float MIN_AUDIBLE_VOLUME = 0.01f;
+
+    private final AudioManager manager;
+    private final int updateTicks;
+    private final Map<Player, SoundInstanceImpl> playerUpdates = new IdentityHashMap<>();
+    private SoundInstanceImpl[] pending = new SoundInstanceImpl[16];
+    private int pendingCount;
+    private int ticksUntilUpdate;
+
+    public FadeEngine(AudioManager manager, int updateTicks) {
+        this.manager = manager;
+        this.updateTicks = Math.max(1, updateTicks);
+        this.ticksUntilUpdate = this.updateTicks;
+    }
+
+    public void submit(SoundInstanceImpl sound) {
+        if (sound.isFadePending()) return;
+
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pending.length * 2);
+        }
+
+        sound.setFadePending(true);
+        pending[pendingCount++] = sound;
+    }
+
+    public void flush() {
+        if (--ticksUntilUpdate > 0 || pendingCount == 0) {
+            ticksUntilUpdate = Math.max(ticksUntilUpdate, 0);
+            return;
+        }
+        ticksUntilUpdate = updateTicks;
+
+        int deferred = 0;
+        for (int i = 0; i < pendingCount; i++) {
+            SoundInstanceImpl sound = pending[i];
+            pending[i] = null;
+
+            if (!sound.isFadePending()) continue;
+            if (sound.getState() == SoundInstanceImpl.State.STOPPED) {
+                sound.setFadePending(false);
+                continue;
+            }
+
+            Player player = sound.getPlayerOrNull();
+            if (player == null) {
+                sound.setFadePending(false);
+                sendLocationUpdate(sound);
+                continue;
+            }
+
+            if (!player.isOnline()) {
+                sound.setFadePending(false);
+                continue;
+            }
+
+            SoundInstanceImpl current = playerUpdates.get(player);
+            if (current == null) {
+                playerUpdates.put(player, sound);
+            } else if (volumeDelta(player, sound) > volumeDelta(player, current)) {
+                playerUpdates.put(player, sound);
+                pending[deferred++] = current;
+            } else {
+                pending[deferred++] = sound;
+            }
+        }
+
+        for (SoundInstanceImpl sound : playerUpdates.values()) {
+            sound.setFadePending(false);
+            sendPlayerUpdate(sound.getPlayerOrNull(), sound);
+        }
+        playerUpdates.clear();
+
+        pendingCount = deferred;
+        if (deferred > 0) {
+            ticksUntilUpdate = 1;
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < pendingCount; i++) {
+            pending[i].setFadePending(false);
+            pending[i] = null;
+        }
+        pendingCount = 0;
+        playerUpdates.clear();
+    }
+
+    private int volumeDelta(Player player, SoundInstanceImpl sound) {
+        int step = quantize(manager.calculatePlayerVolume(player, sound.getVolume()));
+        return Math.abs(step - sound.getSentVolumeStep());
+    }
+
+    private void sendPlayerUpdate(Player player, SoundInstanceImpl sound) {
+        float adjustedVolume = manager.calculatePlayerVolume(player, sound.getVolume());
+        if (adjustedVolume < MIN_AUDIBLE_VOLUME) return;
+
+        int step = quantize(adjustedVolume);
+        if (step == sound.getSentVolumeStep()) return;
+        sound.setSentVolumeStep(step);
+
+        String customSound = sound.getCustomSoundOrNull();
+        if (sound.getSound() != null) {
+            player.playSound(player.getLocation(), sound.getSound(), sound.getCategory(), adjustedVolume, sound.getPitch());
+        } else if (customSound != null) {
+            player.playSound(player.getLocation(), customSound, sound.getCategory(), adjustedVolume, sound.getPitch());
+        }
+    }
+
+    private void sendLocationUpdate(SoundInstanceImpl sound) {
+        Location location = sound.getLocationOrNull();
+        if (location == null || location.getWorld() == null) return;
+
+        float adjustedVolume = manager.calculateVolume(sound.getVolume());
+        if (adjustedVolume < MIN_AUDIBLE_VOLUME) return;
+
+        int step = quantize(adjustedVolume);
+        if (step == sound.getSentVolumeStep()) return;
+        sound.setSentVolumeStep(step);
+
+        String customSound = sound.getCustomSoundOrNull();
+        if (sound.getSound() != null) {
+            location.getWorld().playSound(location, sound.getSound(), sound.getCategory(), adjustedVolume, sound.getPitch());
+        } else if (customSound != null) {
+            location.getWorld().playSound(location, customSound, sound.getCategory(), adjustedVolume, sound.getPitch());
+        }
+    }
+
+    private static int quantize(float volume) {
+        return Math.round(volume * VOLUME_STEPS);
+    }
+}
@@ -0,0 +1,320 @@
+package com.meekdev.maudio.internal.processor;
+
+import com.meekdev.maudio.internal.PlayerStateTable;
+import com.meekdev.maudio.internal.TickClock;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class SoundDispatcher {
+    private static final Comparator<PendingSound> LOUDEST_FIRST = (a, b) -> Float.compare(b.volume, a.volume);
+
+    private final TickClock clock;
+    private final PlayerStateTable playerStates;
+    private final int playerBudget;
+    private final int chunkBudget;
+    private final Map<PendingSound, PendingSound> index = new HashMap<>();
+    private final ChunkCounter chunkCounts = new ChunkCounter();
+    private final PendingSound probe = new PendingSound();
+    private PendingSound[] pending = new PendingSound[32];
+    private int pendingCount;
+    private long mergedCount;
+    private long droppedCount;
+
+    public SoundDispatcher(TickClock clock, PlayerStateTable playerStates, int playerBudget, int chunkBudget) {
+        this.clock = clock;
+        this.playerStates = playerStates;
+        this.playerBudget = Math.max(1, playerBudget);
+        this.chunkBudget = Math.max(1, chunkBudget);
+    }
+
+    public void submit(Location location, Sound sound, String customSound, SoundCategory category, float volume, float pitch) {
+        World world = location.getWorld();
+        if (world == null || volume <= 0) return;
+
+        probe.set(world, null, location.getX(), location.getY(), location.getZ(), sound, customSound, category, pitch);
+        enqueue(volume);
+    }
+
+    public void submit(Player player, Sound sound, String customSound, SoundCategory category, float volume, float pitch) {
+        if (volume <= 0) return;
+
+        probe.set(null, player, 0, 0, 0, sound, customSound, category, pitch);
+        enqueue(volume);
+    }
+
+    public void discard(Player player, Sound sound, String customSound, SoundCategory category) {
+        int kept = 0;
+        for (int i = 0; i < pendingCount; i++) {
+            PendingSound entry = pending[i];
+            if (entry.player == player && (sound == null || entry.sound == sound)
+                    && (customSound == null || customSound.equals(entry.customSound))
+                    && (category == null || entry.category == category)) {
+                index.remove(entry);
+                entry.clear();
+                continue;
+            }
+            pending[i] = pending[kept];
+            pending[kept++] = entry;
+        }
+        pendingCount = kept;
+    }
+
+    public void flush() {
+        if (pendingCount == 0) return;
+
+        if (pendingCount > 1) {
+            Arrays.sort(pending, 0, pendingCount, LOUDEST_FIRST);
+        }
+
+        long tick = clock.now();
+        for (int i = 0; i < pendingCount; i++) {
+            PendingSound entry = pending[i];
+            if (entry.player != null) {
+                sendToPlayer(entry, tick);
+            } else {
+                sendToWorld(entry);
+            }
+            entry.clear();
+        }
+
+        pendingCount = 0;
+        index.clear();
+        chunkCounts.clear();
+    }
+
+    public void clear() {
+        for (int i = 0; i < pendingCount; i++) {
+            pending[i].clear();
+        }
+        pendingCount = 0;
+        index.clear();
+        chunkCounts.clear();
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    public long getMergedCount() {
+        return mergedCount;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    private void enqueue(float volume) {
+        PendingSound existing = index.get(probe);
+        if (existing != null) {
+            existing.volume = Math.max(existing.volume, volume);
+            mergedCount++;
+            probe.clear();
+            return;
+        }
+
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pending.length * 2);
+        }
+
+        PendingSound entry = pending[pendingCount];
+        if (entry == null) {
+            entry = new PendingSound();
+            pending[pendingCount] = entry;
+        }
+        pendingCount++;
+
+        entry.copyFrom(probe);
+        entry.volume = volume;
+        index.put(entry, entry);
+        probe.clear();
+    }
+
+    private void sendToPlayer(PendingSound entry, long tick) {
+        Player player = entry.player;
+        if (!player.isOnline()) return;
+
+        int slot = playerStates.find(player.getUniqueId());
+        if (slot >= 0 && !playerStates.tryConsumePacket(slot, tick, playerBudget)) {
+            droppedCount++;
+            return;
+        }
+
+        if (entry.sound != null) {
+            player.playSound(player.getLocation(), entry.sound, entry.category, entry.volume, entry.pitch);
+        } else if (entry.customSound != null) {
+            player.playSound(player.getLocation(), entry.customSound, entry.category, entry.volume, entry.pitch);
+        }
+    }
+
+    private void sendToWorld(PendingSound entry) {
+        long chunk = ((long) (entry.blockX >> 4) << 32) | ((entry.blockZ >> 4) & 0xFFFFFFFFL);
+        if (!chunkCounts.tryConsume(entry.world, chunk, chunkBudget)) {
+            droppedCount++;
+            return;
+        }
+
+        Location location = new Location(entry.world, entry.x, entry.y, entry.z);
+        if (entry.sound != null) {
+            entry.world.playSound(location, entry.sound, entry.category, entry.volume, entry.pitch);
+        } else if (entry.customSound != null) {
+            entry.world.playSound(location, entry.customSound, entry.category, entry.volume, entry.pitch);
+        }
+    }
+
+    private static final class ChunkCounter {
+        private World[] worlds = new World[64];
+        private long[] chunks = new long[64];
+        private int[] counts = new int[64];
+        private int size;
+
+        boolean tryConsume(World world, long chunk, int budget) {
+            int mask = worlds.length - 1;
+            int slot = hash(world, chunk) & mask;
+            while (worlds[slot] != null) {
+                if (worlds[slot] == world && chunks[slot] == chunk) {
+                    if (counts[slot] >= budget) {
+                        return false;
+                    }
+                    counts[slot]++;
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            worlds[slot] = world;
+            chunks[slot] = chunk;
+            counts[slot] = 1;
+            if (++size * 2 > worlds.length) {
+                grow();
+            }
+            return true;
+        }
+
+        void clear() {
+            if (size == 0) return;
+
+            Arrays.fill(worlds, null);
+            size = 0;
+        }
+
+        private void grow() {
+            World[] oldWorlds = worlds;
+            long[] oldChunks = chunks;
+            int[] oldCounts = counts;
+
+            worlds = new World[oldWorlds.length * 2];
+            chunks = new long[oldWorlds.length * 2];
+            counts = new int[oldWorlds.length * 2];
+
+            int mask = worlds.length - 1;
+            for (int i = 0; i < oldWorlds.length; i++) {
+                if (oldWorlds[i] == null) continue;
+
+                int slot = hash(oldWorlds[i], oldChunks[i]) & mask;
+                while (worlds[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                worlds[slot] = oldWorlds[i];
+                chunks[slot] = oldChunks[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+
+        private static int hash(World world, long chunk) {
+            long h = chunk * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) ^ System.identityHashCode(world);
+        }
+    }
+
+    private static final class PendingSound {
+        World world;
+        Player player;
+        double x;
+        double y;
+        double z;
+        int blockX;
+        int blockY;
+        int blockZ;
+        Sound sound;
+        String customSound;
+        SoundCategory category;
+        float volume;
+        float pitch;
+        int hash;
+
+        void set(World world, Player player, double x, double y, double z,
+                 Sound sound, String customSound, SoundCategory category, float pitch) {
+            this.world = world;
+            this.player = player;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.blockX = (int) Math.floor(x);
+            this.blockY = (int) Math.floor(y);
+            this.blockZ = (int) Math.floor(z);
+            this.sound = sound;
+            this.customSound = customSound;
+            this.category = category;
+            this.pitch = pitch;
+
+            int result = System.identityHashCode(world != null ? world : player);
+            result = 31 * result + blockX;
+            result = 31 * result + blockY;
+            result = 31 * result + blockZ;
+            result = 31 * result + (sound != null ? sound.hashCode() : Objects.hashCode(customSound));
+            result = 31 * result + Objects.hashCode(category);
+            result = 31 * result + Float.floatToIntBits(pitch);
+            this.hash = result;
+        }
+
+        void copyFrom(PendingSound other) {
+            this.world = other.world;
+            this.player = other.player;
+            this.x = other.x;
+            this.y = other.y;
+            this.z = other.z;
+            this.blockX = other.blockX;
+            this.blockY = other.blockY;
+            this.blockZ = other.blockZ;
+            this.sound = other.sound;
+            this.customSound = other.customSound;
+            this.category = other.category;
+            this.pitch = other.pitch;
+            this.hash = other.hash;
+        }
+
+        void clear() {
+            world = null;
+            player = null;
+            sound = null;
+            customSound = null;
+            category = null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PendingSound)) return false;
+            PendingSound other = (PendingSound) o;
+            return world == other.world && player == other.player
+                    && blockX == other.blockX && blockY == other.blockY && blockZ == other.blockZ
+                    && sound == other.sound && Objects.equals(customSound, other.customSound)
+                    && category == other.category
+                    && Float.floatToIntBits(pitch) == Float.floatToIntBits(other.pitch);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
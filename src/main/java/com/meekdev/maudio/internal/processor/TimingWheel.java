@@ -0,0 +1,148 @@
+package com.meekdev.maudio.internal.processor;
+
+import java.util.function.Consumer;
+
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    public static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Entry<T>[][] wheels;
+    private long tick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel() {
+        this.wheels = new Entry[LEVELS][SLOTS];
+    }
+
+    public void schedule(Entry<T> entry, long delay) {
+        if (entry.isScheduled()) {
+            unlink(entry);
+        }
+
+        entry.deadline = tick + Math.max(1, Math.min(MAX_DELAY, delay));
+        place(entry);
+        size++;
+    }
+
+    public boolean cancel(Entry<T> entry) {
+        if (!entry.isScheduled()) return false;
+
+        unlink(entry);
+        return true;
+    }
+
+    public void advance(Consumer<T> expired) {
+        tick++;
+
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) break;
+            cascade(level, (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+
+        Entry<T>[] slots = wheels[0];
+        int slot = (int) (tick & SLOT_MASK);
+        Entry<T> entry;
+        while ((entry = slots[slot]) != null) {
+            unlink(entry);
+            expired.accept(entry.value);
+        }
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (Entry<T>[] slots : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                Entry<T> entry = slots[i];
+                while (entry != null) {
+                    Entry<T> next = entry.next;
+                    entry.prev = null;
+                    entry.next = null;
+                    entry.level = -1;
+                    entry = next;
+                }
+                slots[i] = null;
+            }
+        }
+        size = 0;
+    }
+
+    private void cascade(int level, int slot) {
+        Entry<T>[] slots = wheels[level];
+        Entry<T> entry;
+        while ((entry = slots[slot]) != null) {
+            unlink(entry);
+            place(entry);
+            size++;
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = Math.max(0, entry.deadline - tick);
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+
+        int slot = (int) ((entry.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Entry<T> head = wheels[level][slot];
+
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        wheels[level][slot] = entry;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            wheels[entry.level][entry.slot] = entry.next;
+        }
+
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+
+        entry.prev = null;
+        entry.next = null;
+        entry.level = -1;
+        size--;
+    }
+
+    public static final class Entry<T> {
+        private final T value;
+        private long deadline;
+        private Entry<T> prev;
+        private Entry<T> next;
+        private int level = -1;
+        private int slot;
+
+        public Entry(T value) {
+            this.value = value;
+        }
+
+        public boolean isScheduled() {
+            return level >= 0;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+}
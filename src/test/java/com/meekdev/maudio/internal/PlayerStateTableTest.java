@@ -0,0 +1,131 @@
+package com.meekdev.maudio.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerStateTableTest {
+
+    @Test
+    void matchesAHashMapUnderRandomJoinsAndQuits() {
+        PlayerStateTable table = new PlayerStateTable(4);
+        Map<UUID, Integer> expected = new HashMap<>();
+        List<UUID> online = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 50_000; step++) {
+            if (online.isEmpty() || random.nextInt(3) != 0) {
+                UUID id = random.nextInt(4) == 0 ? new UUID(0, random.nextInt(256)) : UUID.randomUUID();
+                int slot = table.assign(id);
+                Integer previous = expected.putIfAbsent(id, slot);
+                if (previous != null) {
+                    assertEquals(previous, slot);
+                } else {
+                    online.add(id);
+                }
+            } else {
+                UUID id = online.remove(random.nextInt(online.size()));
+                table.free(id);
+                expected.remove(id);
+                assertEquals(-1, table.find(id));
+            }
+
+            if (step % 1000 == 0) {
+                assertMatches(table, expected);
+            }
+        }
+
+        assertMatches(table, expected);
+    }
+
+    @Test
+    void freedSlotsAreReusedWithFreshState() {
+        PlayerStateTable table = new PlayerStateTable(2);
+        UUID first = UUID.randomUUID();
+        int slot = table.assign(first);
+        table.setVolume(slot, 0.25f);
+        table.setLastBlock(slot, PlayerStateTable.packBlock(1, 2, 3));
+
+        table.free(first);
+        table.free(first);
+        assertEquals(0, table.size());
+
+        int reused = table.assign(UUID.randomUUID());
+        assertEquals(slot, reused);
+        assertEquals(1.0f, table.getVolume(reused));
+        assertEquals(PlayerStateTable.NO_BLOCK, table.getLastBlock(reused));
+    }
+
+    @Test
+    void packetBudgetIsCountedPerTick() {
+        PlayerStateTable table = new PlayerStateTable(1);
+        int slot = table.assign(UUID.randomUUID());
+
+        assertTrue(table.tryConsumePacket(slot, 1, 2));
+        assertTrue(table.tryConsumePacket(slot, 1, 2));
+        assertFalse(table.tryConsumePacket(slot, 1, 2));
+        assertTrue(table.tryConsumePacket(slot, 2, 2));
+    }
+
+    @Test
+    void readersOnOtherThreadsAlwaysFindResidentPlayers() throws Exception {
+        PlayerStateTable table = new PlayerStateTable(4);
+        List<UUID> resident = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            UUID id = UUID.randomUUID();
+            table.assign(id);
+            resident.add(id);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger misses = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                for (UUID id : resident) {
+                    if (table.find(id) < 0) {
+                        misses.incrementAndGet();
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        for (int round = 0; round < 2_000; round++) {
+            List<UUID> churn = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                UUID id = UUID.randomUUID();
+                table.assign(id);
+                churn.add(id);
+            }
+            for (UUID id : churn) {
+                table.free(id);
+            }
+        }
+
+        running.set(false);
+        reader.join();
+        assertEquals(0, misses.get());
+    }
+
+    private static void assertMatches(PlayerStateTable table, Map<UUID, Integer> expected) {
+        assertEquals(expected.size(), table.size());
+        Set<Integer> slots = new HashSet<>();
+        for (Map.Entry<UUID, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), table.find(entry.getKey()));
+            assertTrue(slots.add(entry.getValue()));
+        }
+    }
+}
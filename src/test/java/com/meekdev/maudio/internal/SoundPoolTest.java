@@ -0,0 +1,141 @@
+package com.meekdev.maudio.internal;
+
+import com.meekdev.maudio.internal.model.SoundInstanceImpl;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SoundPoolTest {
+
+    @Test
+    void refusesPastTheActiveLimitAndReusesReleasedVoices() {
+        SoundPool pool = new SoundPool(8, 4);
+        List<SoundInstanceImpl> voices = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            voices.add(obtain(pool));
+        }
+
+        assertNull(obtain(pool));
+        assertEquals(4, pool.getActiveCount());
+        assertEquals(1, pool.getExhaustedCount());
+
+        SoundInstanceImpl released = voices.get(2);
+        pool.release(released);
+        pool.release(released);
+        assertEquals(3, pool.getActiveCount());
+
+        assertSame(released, obtain(pool));
+        assertEquals(4, pool.getHighWaterMark());
+    }
+
+    @Test
+    void everyLeaseGetsADistinctVoiceAndId() {
+        SoundPool pool = new SoundPool(64, 64);
+        Set<SoundInstanceImpl> voices = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Object> ids = new HashSet<>();
+        for (int i = 0; i < 64; i++) {
+            SoundInstanceImpl voice = obtain(pool);
+            assertNotNull(voice);
+            assertTrue(voices.add(voice));
+            assertTrue(ids.add(voice.getId()));
+        }
+    }
+
+    @Test
+    void retiredVoiceIsReplacedInItsSlot() {
+        SoundPool pool = new SoundPool(1, 1);
+        SoundInstanceImpl stolen = obtain(pool);
+
+        pool.retire(stolen);
+        assertEquals(-1, stolen.getPoolSlot());
+        assertEquals(0, pool.getActiveCount());
+
+        SoundInstanceImpl replacement = obtain(pool);
+        assertNotNull(replacement);
+        assertNotSame(stolen, replacement);
+
+        pool.release(stolen);
+        assertEquals(1, pool.getActiveCount());
+    }
+
+    @Test
+    void adaptivePoolGrowsToItsCeilingAndShrinksAfterIdle() {
+        SoundPool pool = new SoundPool(4, 4, true, 32, 100);
+        List<SoundInstanceImpl> voices = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            voices.add(obtain(pool));
+        }
+
+        assertNull(obtain(pool));
+        assertEquals(32, pool.getCapacity());
+
+        for (SoundInstanceImpl voice : voices) {
+            pool.release(voice);
+        }
+        pool.maintain(100);
+        pool.maintain(100);
+
+        assertEquals(4, pool.getCapacity());
+        assertEquals(4, pool.getMaxActiveSounds());
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(obtain(pool));
+        }
+    }
+
+    @Test
+    void concurrentLeasesNeverShareAVoice() throws Exception {
+        SoundPool pool = new SoundPool(64, 64);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<SoundInstanceImpl> held = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int clashes = 0;
+                for (int i = 0; i < 20_000; i++) {
+                    SoundInstanceImpl voice = obtain(pool);
+                    if (voice == null) continue;
+                    if (!held.add(voice)) clashes++;
+                    held.remove(voice);
+                    pool.release(voice);
+                }
+                return clashes;
+            }));
+        }
+
+        start.countDown();
+        for (Future<Integer> result : results) {
+            assertEquals(0, result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(64, pool.getPooledCount());
+    }
+
+    private static SoundInstanceImpl obtain(SoundPool pool) {
+        return pool.obtain(Sound.AMBIENT_CAVE, null, SoundCategory.AMBIENT, 1.0f, 1.0f, null, null, false, 0);
+    }
+}
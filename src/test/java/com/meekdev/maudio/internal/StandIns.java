@@ -0,0 +1,108 @@
+package com.meekdev.maudio.internal;
+
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+public final class StandIns {
+    private StandIns() {}
+
+    public static AudioManager manager(Collection<? extends Player> onlinePlayers) {
+        return new AudioManager(plugin(server(onlinePlayers)), 64, 64);
+    }
+
+    public static Plugin plugin(Server server) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getServer", server);
+        values.put("getLogger", Logger.getLogger("MaudioTest"));
+        values.put("isEnabled", true);
+        values.put("getName", "MaudioTest");
+        return stub(Plugin.class, values, null);
+    }
+
+    public static Server server(Collection<? extends Player> onlinePlayers) {
+        BukkitTask task = stub(BukkitTask.class, Map.of(), null);
+        BukkitScheduler scheduler = stub(BukkitScheduler.class, Map.of(
+                "runTaskTimer", task,
+                "runTaskLater", task,
+                "runTask", task
+        ), null);
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("getOnlinePlayers", onlinePlayers);
+        values.put("getScheduler", scheduler);
+        values.put("getPluginManager", stub(PluginManager.class, Map.of(), null));
+        values.put("getLogger", Logger.getLogger("MaudioTest"));
+        values.put("isPrimaryThread", true);
+        return stub(Server.class, values, null);
+    }
+
+    public static World world(List<Player> players, List<String> calls) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getUID", UUID.randomUUID());
+        values.put("getName", "world");
+        values.put("getPlayers", players);
+        values.put("isChunkLoaded", true);
+        return stub(World.class, values, calls);
+    }
+
+    public static Player player(Location location, List<String> calls) {
+        return stub(Player.class, Map.of(
+                "getUniqueId", UUID.randomUUID(),
+                "getName", "player",
+                "getLocation", location,
+                "getWorld", location.getWorld(),
+                "isOnline", true
+        ), calls);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> values, List<String> calls) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (calls != null && name.equals("playSound")) {
+                calls.add(args[1] + " " + args[2] + " " + args[3] + " " + args[4]);
+                return null;
+            }
+            if (values.containsKey(name)) {
+                return values.get(name);
+            }
+
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "StandIn";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return 0d;
+    }
+}
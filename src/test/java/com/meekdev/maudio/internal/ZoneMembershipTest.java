@@ -0,0 +1,149 @@
+package com.meekdev.maudio.internal;
+
+import com.meekdev.maudio.ZoneInstance;
+import com.meekdev.maudio.api.events.AudioEvent;
+import com.meekdev.maudio.api.events.AudioListener;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZoneMembershipTest {
+    private final List<Player> online = new ArrayList<>();
+    private final ZoneEvents events = new ZoneEvents();
+    private AudioManager manager;
+    private World world;
+    private Location position;
+    private Player player;
+    private ZoneInstance zone;
+
+    @BeforeEach
+    void setUp() {
+        world = StandIns.world(online, null);
+        position = new Location(world, 100, 64, 0);
+        player = StandIns.player(position, null);
+        online.add(player);
+
+        manager = StandIns.manager(online);
+        manager.registerEvents(events);
+        zone = manager.createSoundZone(new Location(world, 0, 64, 0), 10, Sound.AMBIENT_CAVE,
+                SoundCategory.AMBIENT, 0.5f, 1.0f, 20);
+    }
+
+    @Test
+    void entersInsideTheRadiusAndLeavesPastTheBand() {
+        moveTo(9);
+        assertTrue(zone.isPlayerInZone(player));
+        assertEquals(1, events.enters);
+
+        moveTo(11.5);
+        assertTrue(zone.isPlayerInZone(player));
+
+        moveTo(12.5);
+        assertFalse(zone.isPlayerInZone(player));
+        assertEquals(1, events.exits);
+    }
+
+    @Test
+    void perZoneBandOverridesTheDefault() {
+        zone.setHysteresis(6);
+        moveTo(5);
+        moveTo(15);
+        assertTrue(zone.isPlayerInZone(player));
+
+        moveTo(16.5);
+        assertFalse(zone.isPlayerInZone(player));
+
+        zone.setHysteresis(-3);
+        assertEquals(-1, zone.getHysteresis());
+        moveTo(5);
+        moveTo(12.5);
+        assertFalse(zone.isPlayerInZone(player));
+    }
+
+    @Test
+    void cancelledEntryIsNotRetriedUntilThePlayerLeavesTheBand() {
+        events.cancelEnter = true;
+        for (int x = 9; x >= 0; x--) {
+            moveTo(x);
+        }
+        assertFalse(zone.isPlayerInZone(player));
+        assertEquals(1, events.enters);
+
+        moveTo(11.5);
+        moveTo(5);
+        assertEquals(1, events.enters);
+
+        moveTo(12.5);
+        assertEquals(0, events.exits);
+
+        events.cancelEnter = false;
+        moveTo(5);
+        assertEquals(2, events.enters);
+        assertTrue(zone.isPlayerInZone(player));
+    }
+
+    @Test
+    void deactivatingAndRemovingTheZoneReleaseMembers() {
+        moveTo(5);
+        zone.deactivate();
+        assertFalse(zone.isPlayerInZone(player));
+        assertTrue(zone.getPlayersInZone().isEmpty());
+        assertEquals(1, events.exits);
+
+        zone.activate();
+        assertTrue(zone.isPlayerInZone(player));
+
+        manager.removeSoundZone(zone.getId());
+        assertFalse(zone.isPlayerInZone(player));
+        assertEquals(2, events.exits);
+    }
+
+    @Test
+    void quittingFiresExitForEveryZone() {
+        ZoneInstance overlapping = manager.createSoundZone(new Location(world, 4, 64, 0), 10, Sound.AMBIENT_CAVE,
+                SoundCategory.AMBIENT, 0.5f, 1.0f, 20);
+        moveTo(5);
+        assertTrue(overlapping.isPlayerInZone(player));
+        assertEquals(2, events.enters);
+
+        manager.handlePlayerQuit(player);
+        assertFalse(zone.isPlayerInZone(player));
+        assertFalse(overlapping.isPlayerInZone(player));
+        assertEquals(2, events.exits);
+    }
+
+    private void moveTo(double x) {
+        position.setX(x);
+        manager.updateZoneMembership(player, position.clone());
+    }
+
+    public static class ZoneEvents {
+        int enters;
+        int exits;
+        boolean cancelEnter;
+
+        @AudioListener("zone_enter")
+        public void onEnter(AudioEvent event) {
+            enters++;
+            if (cancelEnter) {
+                event.setCancelled(true);
+            }
+        }
+
+        @AudioListener("zone_exit")
+        public void onExit(AudioEvent event) {
+            exits++;
+        }
+    }
+}
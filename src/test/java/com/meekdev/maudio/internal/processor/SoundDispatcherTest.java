@@ -0,0 +1,123 @@
+package com.meekdev.maudio.internal.processor;
+
+import com.meekdev.maudio.internal.PlayerStateTable;
+import com.meekdev.maudio.internal.StandIns;
+import com.meekdev.maudio.internal.TickClock;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SoundDispatcherTest {
+    private final List<String> worldCalls = new ArrayList<>();
+    private final List<String> playerCalls = new ArrayList<>();
+    private TickClock clock;
+    private PlayerStateTable playerStates;
+    private World world;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        clock = new TickClock();
+        playerStates = new PlayerStateTable(8);
+        world = StandIns.world(new ArrayList<>(), worldCalls);
+        player = StandIns.player(new Location(world, 0, 64, 0), playerCalls);
+    }
+
+    @Test
+    void mergesCopiesInTheSameBlockKeepingTheLoudest() {
+        SoundDispatcher dispatcher = new SoundDispatcher(clock, playerStates, 64, 128);
+        dispatcher.submit(new Location(world, 1.2, 64, 1.7), Sound.BLOCK_STONE_STEP, null, SoundCategory.BLOCKS, 0.4f, 1.0f);
+        dispatcher.submit(new Location(world, 1.9, 64.5, 1.1), Sound.BLOCK_STONE_STEP, null, SoundCategory.BLOCKS, 0.9f, 1.0f);
+        dispatcher.submit(new Location(world, 1.5, 64, 1.5), Sound.BLOCK_STONE_STEP, null, SoundCategory.BLOCKS, 0.6f, 1.0f);
+
+        assertEquals(1, dispatcher.getPendingCount());
+        dispatcher.flush();
+
+        assertEquals(List.of("BLOCK_STONE_STEP BLOCKS 0.9 1.0"), worldCalls);
+        assertEquals(2, dispatcher.getMergedCount());
+    }
+
+    @Test
+    void keepsDifferentPitchesCategoriesAndBlocksApart() {
+        SoundDispatcher dispatcher = new SoundDispatcher(clock, playerStates, 64, 128);
+        Location location = new Location(world, 0, 64, 0);
+        dispatcher.submit(location, Sound.BLOCK_NOTE_BLOCK_HARP, null, SoundCategory.RECORDS, 1.0f, 1.0f);
+        dispatcher.submit(location, Sound.BLOCK_NOTE_BLOCK_HARP, null, SoundCategory.RECORDS, 1.0f, 1.5f);
+        dispatcher.submit(location, Sound.BLOCK_NOTE_BLOCK_HARP, null, SoundCategory.BLOCKS, 1.0f, 1.0f);
+        dispatcher.submit(new Location(world, 1, 64, 0), Sound.BLOCK_NOTE_BLOCK_HARP, null, SoundCategory.RECORDS, 1.0f, 1.0f);
+        dispatcher.flush();
+
+        assertEquals(4, worldCalls.size());
+        assertEquals(0, dispatcher.getMergedCount());
+    }
+
+    @Test
+    void skipsSilentSounds() {
+        SoundDispatcher dispatcher = new SoundDispatcher(clock, playerStates, 64, 128);
+        dispatcher.submit(new Location(world, 0, 64, 0), Sound.AMBIENT_CAVE, null, SoundCategory.AMBIENT, 0f, 1.0f);
+        dispatcher.submit(player, Sound.AMBIENT_CAVE, null, SoundCategory.AMBIENT, -1f, 1.0f);
+        dispatcher.submit(player, Sound.AMBIENT_CAVE, null, SoundCategory.AMBIENT, 0.005f, 1.0f);
+        dispatcher.flush();
+
+        assertEquals(0, worldCalls.size());
+        assertEquals(List.of("AMBIENT_CAVE AMBIENT 0.005 1.0"), playerCalls);
+    }
+
+    @Test
+    void chunkBudgetDropsTheQuietestSounds() {
+        SoundDispatcher dispatcher = new SoundDispatcher(clock, playerStates, 64, 2);
+        float[] volumes = {0.2f, 0.8f, 0.4f, 0.6f};
+        for (int i = 0; i < volumes.length; i++) {
+            dispatcher.submit(new Location(world, i, 64, 0), Sound.BLOCK_STONE_STEP, null, SoundCategory.BLOCKS,
+                    volumes[i], 1.0f);
+        }
+        dispatcher.submit(new Location(world, 40, 64, 0), Sound.BLOCK_STONE_STEP, null, SoundCategory.BLOCKS, 0.1f, 1.0f);
+        dispatcher.flush();
+
+        assertEquals(List.of("BLOCK_STONE_STEP BLOCKS 0.8 1.0", "BLOCK_STONE_STEP BLOCKS 0.6 1.0",
+                "BLOCK_STONE_STEP BLOCKS 0.1 1.0"), worldCalls);
+        assertEquals(2, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void playerBudgetResetsEachTick() {
+        SoundDispatcher dispatcher = new SoundDispatcher(clock, playerStates, 2, 128);
+        playerStates.assign(player.getUniqueId());
+
+        Sound[] sounds = {Sound.BLOCK_STONE_STEP, Sound.BLOCK_NOTE_BLOCK_PLING, Sound.ENTITY_EXPERIENCE_ORB_PICKUP};
+        for (int tick = 0; tick < 2; tick++) {
+            clock.advance();
+            for (Sound sound : sounds) {
+                dispatcher.submit(player, sound, null, SoundCategory.BLOCKS, 1.0f, 1.0f);
+            }
+            dispatcher.flush();
+        }
+
+        assertEquals(4, playerCalls.size());
+        assertEquals(2, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void discardRemovesOnlyMatchingPlayerSounds() {
+        SoundDispatcher dispatcher = new SoundDispatcher(clock, playerStates, 64, 128);
+        dispatcher.submit(player, Sound.MUSIC_DISC_CAT, null, SoundCategory.RECORDS, 1.0f, 1.0f);
+        dispatcher.submit(player, Sound.AMBIENT_CAVE, null, SoundCategory.AMBIENT, 1.0f, 1.0f);
+        dispatcher.submit(new Location(world, 0, 64, 0), Sound.MUSIC_DISC_CAT, null, SoundCategory.RECORDS, 1.0f, 1.0f);
+
+        dispatcher.discard(player, Sound.MUSIC_DISC_CAT, null, null);
+        dispatcher.submit(player, Sound.MUSIC_DISC_CAT, null, SoundCategory.RECORDS, 0.5f, 1.0f);
+        dispatcher.flush();
+
+        assertEquals(List.of("AMBIENT_CAVE AMBIENT 1.0 1.0", "MUSIC_DISC_CAT RECORDS 0.5 1.0"), playerCalls);
+        assertEquals(List.of("MUSIC_DISC_CAT RECORDS 1.0 1.0"), worldCalls);
+    }
+}
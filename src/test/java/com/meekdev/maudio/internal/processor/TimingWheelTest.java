@@ -0,0 +1,105 @@
+package com.meekdev.maudio.internal.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    @Test
+    void firesEachEntryOnItsDeadlineAcrossLevels() {
+        TimingWheel<Long> wheel = new TimingWheel<>();
+        long[] delays = {1, 2, 63, 64, 65, 127, 4095, 4096, 4097, 262_143, 262_144, 300_000};
+        for (long delay : delays) {
+            wheel.schedule(new TimingWheel.Entry<>(delay), delay);
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (int i = 0; i < 300_000; i++) {
+            wheel.advance(delay -> firedAt.put(delay, wheel.getTick()));
+        }
+
+        for (long delay : delays) {
+            assertEquals(delay, firedAt.get(delay));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledEntryNeverFires() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        TimingWheel.Entry<String> kept = new TimingWheel.Entry<>("kept");
+        TimingWheel.Entry<String> cancelled = new TimingWheel.Entry<>("cancelled");
+        wheel.schedule(kept, 100);
+        wheel.schedule(cancelled, 100);
+
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        assertFalse(cancelled.isScheduled());
+        assertEquals(1, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            wheel.advance(fired::add);
+        }
+        assertEquals(List.of("kept"), fired);
+    }
+
+    @Test
+    void reschedulingMovesTheDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        TimingWheel.Entry<String> entry = new TimingWheel.Entry<>("zone");
+        wheel.schedule(entry, 10);
+        for (int i = 0; i < 5; i++) {
+            wheel.advance(value -> {});
+        }
+        wheel.schedule(entry, 100);
+        assertEquals(1, wheel.size());
+
+        List<Long> fired = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            wheel.advance(value -> fired.add(wheel.getTick()));
+        }
+        assertEquals(List.of(105L), fired);
+    }
+
+    @Test
+    void entryCanRescheduleItselfWhileFiring() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        TimingWheel.Entry<String> entry = new TimingWheel.Entry<>("loop");
+        wheel.schedule(entry, 20);
+
+        List<Long> fired = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            wheel.advance(value -> {
+                fired.add(wheel.getTick());
+                wheel.schedule(entry, 20);
+            });
+        }
+        assertEquals(List.of(20L, 40L, 60L, 80L, 100L), fired);
+    }
+
+    @Test
+    void clampsDelaysToTheSupportedRange() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        TimingWheel.Entry<String> immediate = new TimingWheel.Entry<>("immediate");
+        TimingWheel.Entry<String> distant = new TimingWheel.Entry<>("distant");
+        wheel.schedule(immediate, 0);
+        wheel.schedule(distant, Long.MAX_VALUE);
+
+        assertEquals(1, immediate.getDeadline());
+        assertEquals(TimingWheel.MAX_DELAY, distant.getDeadline());
+
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertFalse(immediate.isScheduled());
+        assertFalse(distant.isScheduled());
+    }
+}